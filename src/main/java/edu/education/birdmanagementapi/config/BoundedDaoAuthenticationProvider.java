@@ -0,0 +1,29 @@
+package edu.education.birdmanagementapi.config;
+
+import edu.education.birdmanagementapi.exception.ServiceUnavailableException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * DaoAuthenticationProvider que convierte el rechazo de {@link BoundedPasswordEncoder} en una
+ * {@link AuthenticationException}.
+ * <p>
+ * Fuera de los controladores {@code GlobalExceptionHandler} no interviene: una {@link ServiceUnavailableException}
+ * lanzada al verificar la contraseña de Basic Auth escaparía de la cadena de filtros como un 500. Envuelta en una
+ * {@link InternalAuthenticationServiceException}, el filtro la entrega al
+ * {@link ServiceUnavailableAuthenticationEntryPoint}, que responde 503, y el ProviderManager no la reintenta con
+ * otros proveedores.
+ */
+public class BoundedDaoAuthenticationProvider extends DaoAuthenticationProvider {
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        try {
+            return super.authenticate(authentication);
+        } catch (ServiceUnavailableException e) {
+            throw new InternalAuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+}
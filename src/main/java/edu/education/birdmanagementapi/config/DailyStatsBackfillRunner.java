@@ -0,0 +1,30 @@
+package edu.education.birdmanagementapi.config;
+
+import edu.education.birdmanagementapi.repository.SightingDailyStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Construye al arrancar el acumulado diario de avistamientos cuando la tabla aún está vacía
+ * (bases de datos con avistamientos registrados antes de existir el acumulado).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsBackfillRunner implements ApplicationRunner {
+
+    private final SightingDailyStatRepository sightingDailyStatRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer buckets = transactionTemplate.execute(status -> sightingDailyStatRepository.rebuildIfEmpty());
+        if (buckets != null && buckets > 0) {
+            log.info("Acumulado diario de avistamientos reconstruido: {} buckets.", buckets);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package edu.education.birdmanagementapi.config;
+
+import edu.education.birdmanagementapi.domain.entity.Sighting;
+import edu.education.birdmanagementapi.repository.SightingRepository;
+import edu.education.birdmanagementapi.util.GeoHashUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Calcula al arrancar el geohash de los avistamientos registrados antes de existir la columna.
+ * Procesa lotes en transacciones independientes para no acumular entidades en memoria.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GeohashBackfillRunner implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final SightingRepository sightingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int total = 0;
+        Integer updated;
+        do {
+            updated = transactionTemplate.execute(status -> {
+                List<Sighting> pending = sightingRepository
+                        .findByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull(Limit.of(BATCH_SIZE));
+                pending.forEach(sighting -> sighting.setGeohash(
+                        GeoHashUtils.encode(sighting.getLatitude(), sighting.getLongitude())));
+                return pending.size();
+            });
+            total += updated == null ? 0 : updated;
+        } while (updated != null && updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Geohash calculado para {} avistamientos existentes.", total);
+        }
+    }
+}
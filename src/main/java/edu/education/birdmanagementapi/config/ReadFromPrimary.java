@@ -0,0 +1,20 @@
+package edu.education.birdmanagementapi.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Envía al primario todas las lecturas del método anotado, aunque abra transacciones de solo lectura.
+ * <p>
+ * Se reserva para las recargas de índices posteriores a un commit, que no toleran el retraso de replicación; el
+ * resto de lecturas se enruta con {@code @Transactional(readOnly = true)}. Se aplica solo a llamadas a través del
+ * proxy del bean y no tiene efecto sin réplicas configuradas.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromPrimary {
+}
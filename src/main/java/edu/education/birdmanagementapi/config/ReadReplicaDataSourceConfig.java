@@ -0,0 +1,102 @@
+package edu.education.birdmanagementapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Separa lecturas y escrituras cuando {@code datasource.replicas.enabled=true}: los métodos
+ * {@code @Transactional(readOnly = true)} (y las consultas de los repositorios, que son de solo lectura por
+ * defecto) usan las réplicas de {@code datasource.replicas.urls}; el resto usa {@code spring.datasource.url}.
+ * <p>
+ * Las réplicas reutilizan el usuario, la contraseña y la configuración Hikari del primario. Para probarlo en local
+ * basta con una segunda instancia de PostgreSQL replicando la primera o, como sustituto, con la misma URL del
+ * primario: el enrutamiento se ejercita igual.
+ * <p>
+ * Tras el commit de una escritura, esta instancia lee del primario durante
+ * {@code datasource.replicas.read-your-writes-window}; los métodos anotados con {@link ReadFromPrimary} leen
+ * siempre del primario.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    /**
+     * Pool del primario, configurado con {@code spring.datasource.*} y {@code spring.datasource.hikari.*}.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            @Value("${datasource.replicas.urls}") List<String> urls,
+            @Value("${datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.replicas.health-check-interval:PT10S}") Duration healthCheckInterval,
+            @Value("${datasource.replicas.read-your-writes-window:PT2S}") Duration readYourWritesWindow) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url.trim());
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        log.info("Enrutamiento de lecturas activado con {} réplicas.", replicas.size());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, healthCheckInterval, readYourWritesWindow);
+    }
+
+    /**
+     * DataSource de la aplicación: difiere la obtención de la conexión hasta la primera sentencia, cuando ya se
+     * sabe si la transacción es de solo lectura.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Aplica {@link ReadFromPrimary}. Se ejecuta por fuera de {@code @Transactional} para que la indicación esté
+     * activa antes de la primera sentencia de la transacción.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor readFromPrimaryAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(ReadFromPrimary.class),
+                (MethodInterceptor) ReplicaRoutingDataSource::invokeOnPrimary);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
@@ -0,0 +1,168 @@
+package edu.education.birdmanagementapi.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a las réplicas y el resto al primario.
+ * <p>
+ * Las réplicas se reparten por turnos entre las que superaron la última comprobación de salud; si ninguna está
+ * disponible, la lectura va al primario. Debe usarse detrás de un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: el gestor de transacciones pide la
+ * conexión antes de marcar la transacción como de solo lectura, y el proxy retrasa la elección hasta la primera
+ * sentencia.
+ * <p>
+ * Dos excepciones envían al primario las lecturas de solo lectura:
+ * <ul>
+ *     <li>los métodos anotados con {@link ReadFromPrimary}, como las recargas de índices posteriores a un commit;</li>
+ *     <li>durante una ventana corta tras el commit de una escritura en esta instancia, todas las lecturas, para que
+ *     las cachés descartadas por ese commit no se vuelvan a llenar desde una réplica retrasada.</li>
+ * </ul>
+ * Ambas solo surten efecto antes de la primera sentencia de la transacción: una transacción que ya obtuvo una
+ * conexión de réplica la conserva hasta el final.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource
+        implements TransactionExecutionListener, AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final ThreadLocal<Boolean> PRIMARY_HINT = new ThreadLocal<>();
+
+    private final List<DataSource> replicas;
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+    private final long readYourWritesNanos;
+    private volatile long primaryUntilNanos;
+
+    /**
+     * @param primary              DataSource de escritura
+     * @param replicas             DataSources de lectura
+     * @param healthCheckInterval  intervalo entre comprobaciones de salud de las réplicas
+     * @param readYourWritesWindow tiempo durante el que se lee del primario tras una escritura en esta instancia;
+     *                             debe superar el retraso de replicación habitual
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration healthCheckInterval,
+                                    Duration readYourWritesWindow) {
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesNanos = readYourWritesWindow.toNanos();
+        this.primaryUntilNanos = System.nanoTime();
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(i, replicas.get(i));
+            healthy.set(i, 1);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, healthCheckInterval.toMillis(),
+                healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Ejecuta la invocación enviando al primario todas sus lecturas. Es el interceptor de {@link ReadFromPrimary};
+     * en llamadas anidadas, la indicación se retira al volver de la más externa.
+     *
+     * @param invocation método interceptado
+     * @return resultado del método
+     */
+    static Object invokeOnPrimary(MethodInvocation invocation) throws Throwable {
+        if (PRIMARY_HINT.get() != null) {
+            return invocation.proceed();
+        }
+        PRIMARY_HINT.set(Boolean.TRUE);
+        try {
+            return invocation.proceed();
+        } finally {
+            PRIMARY_HINT.remove();
+        }
+    }
+
+    /**
+     * Abre la ventana de lectura desde el primario al confirmar una transacción de escritura. Se abre antes del
+     * commit porque las cachés se descartan en los listeners posteriores al commit, que se ejecutan antes que
+     * {@link #afterCommit}.
+     */
+    @Override
+    public void beforeCommit(TransactionExecution transaction) {
+        if (!transaction.isReadOnly()) {
+            primaryUntilNanos = System.nanoTime() + readYourWritesNanos;
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || PRIMARY_HINT.get() != null
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || System.nanoTime() - primaryUntilNanos < 0) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int candidate = (start + i) % size;
+            if (healthy.get(candidate) == 1) {
+                return candidate;
+            }
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * Marca cada réplica como disponible si responde a {@link Connection#isValid(int)}.
+     */
+    void checkReplicas() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean up;
+            try (Connection connection = replicas.get(i).getConnection()) {
+                up = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            } catch (SQLException e) {
+                up = false;
+            }
+            int previous = healthy.getAndSet(i, up ? 1 : 0);
+            if (previous == 1 && !up) {
+                log.warn("Réplica de lectura {} no disponible; se excluye del reparto.", i);
+            } else if (previous == 0 && up) {
+                log.info("Réplica de lectura {} disponible de nuevo.", i);
+            }
+        }
+    }
+
+    /**
+     * Detiene las comprobaciones de salud y cierra los pools de las réplicas (el primario es un bean propio).
+     */
+    @Override
+    public void close() throws Exception {
+        healthChecker.shutdownNow();
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package edu.education.birdmanagementapi.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.SingleResultAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Tabla de autorización por ruta: las reglas método + patrón se compilan al arrancar en un árbol de segmentos, de
+ * modo que autorizar una petición recorre su ruta una sola vez en lugar de probar cada patrón en secuencia.
+ * <p>
+ * Los patrones admiten segmentos literales, variables ({@code {id}}, un segmento no vacío) y {@code **} como último
+ * segmento (cero o más segmentos). En cada nivel un literal tiene prioridad sobre una variable y ésta sobre
+ * {@code **}; si la rama más específica no tiene regla para el método se prueba la siguiente. Una regla sin método
+ * se aplica a todos los métodos que no tengan una propia. Las peticiones sin regla se deniegan.
+ */
+public class RouteAuthorizationTable implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private static final AuthorizationDecision DENY = new AuthorizationDecision(false);
+
+    private final Node root = new Node();
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node variable;
+        private Node remainder;
+        private final Map<HttpMethod, AuthorizationManager<RequestAuthorizationContext>> rules = new HashMap<>();
+        private AuthorizationManager<RequestAuthorizationContext> anyMethodRule;
+
+        private AuthorizationManager<RequestAuthorizationContext> ruleFor(HttpMethod method) {
+            AuthorizationManager<RequestAuthorizationContext> rule = rules.get(method);
+            return rule != null ? rule : anyMethodRule;
+        }
+    }
+
+    public static AuthorizationManager<RequestAuthorizationContext> permitAll() {
+        return SingleResultAuthorizationManager.permitAll();
+    }
+
+    public static AuthorizationManager<RequestAuthorizationContext> authenticated() {
+        return AuthenticatedAuthorizationManager.authenticated();
+    }
+
+    public static AuthorizationManager<RequestAuthorizationContext> hasAnyAuthority(String... authorities) {
+        return AuthorityAuthorizationManager.hasAnyAuthority(authorities);
+    }
+
+    public static AuthorizationManager<RequestAuthorizationContext> hasAnyRole(String... roles) {
+        return AuthorityAuthorizationManager.hasAnyRole(roles);
+    }
+
+    /**
+     * Registra una regla para uno o varios patrones. Debe llamarse solo durante la configuración.
+     *
+     * @param method   método HTTP, o {@code null} para todos
+     * @param rule     autorización requerida
+     * @param patterns patrones de ruta relativos al context-path
+     * @return esta tabla
+     * @throws IllegalArgumentException si un patrón no es válido
+     * @throws IllegalStateException    si el método y patrón ya tenían una regla
+     */
+    public RouteAuthorizationTable route(HttpMethod method, AuthorizationManager<RequestAuthorizationContext> rule,
+                                         String... patterns) {
+        for (String pattern : patterns) {
+            Node node = root;
+            String[] segments = split(pattern);
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.equals("**")) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("'**' solo puede ser el último segmento: " + pattern);
+                    }
+                    node.remainder = node.remainder != null ? node.remainder : new Node();
+                    node = node.remainder;
+                } else if (segment.startsWith("{") && segment.endsWith("}")) {
+                    node.variable = node.variable != null ? node.variable : new Node();
+                    node = node.variable;
+                } else if (segment.isEmpty() || segment.contains("*") || segment.contains("{")) {
+                    throw new IllegalArgumentException("Segmento de ruta no admitido en " + pattern);
+                } else {
+                    node = node.literals.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+            boolean duplicate = method == null ? node.anyMethodRule != null : node.rules.containsKey(method);
+            if (duplicate) {
+                throw new IllegalStateException("Regla de autorización duplicada: " + method + " " + pattern);
+            }
+            if (method == null) {
+                node.anyMethodRule = rule;
+            } else {
+                node.rules.put(method, rule);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        AuthorizationManager<RequestAuthorizationContext> rule = find(context.getRequest());
+        return rule == null ? DENY : rule.check(authentication, context);
+    }
+
+    /**
+     * Regla aplicable a la petición, o {@code null} si no hay ninguna.
+     */
+    AuthorizationManager<RequestAuthorizationContext> find(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String[] segments = split(path);
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = UriUtils.decode(segments[i], StandardCharsets.UTF_8);
+        }
+        return find(root, segments, 0, HttpMethod.valueOf(request.getMethod()));
+    }
+
+    private static AuthorizationManager<RequestAuthorizationContext> find(Node node, String[] segments, int index,
+                                                                          HttpMethod method) {
+        if (index == segments.length) {
+            AuthorizationManager<RequestAuthorizationContext> rule = node.ruleFor(method);
+            if (rule != null) {
+                return rule;
+            }
+        } else {
+            Node literal = node.literals.get(segments[index]);
+            if (literal != null) {
+                AuthorizationManager<RequestAuthorizationContext> rule = find(literal, segments, index + 1, method);
+                if (rule != null) {
+                    return rule;
+                }
+            }
+            if (node.variable != null && !segments[index].isEmpty()) {
+                AuthorizationManager<RequestAuthorizationContext> rule = find(node.variable, segments, index + 1, method);
+                if (rule != null) {
+                    return rule;
+                }
+            }
+        }
+        return node.remainder != null ? node.remainder.ruleFor(method) : null;
+    }
+
+    /**
+     * Segmentos de una ruta sin la barra inicial; una barra final produce un último segmento vacío.
+     */
+    private static String[] split(String path) {
+        if (path.isEmpty() || path.equals("/")) {
+            return new String[0];
+        }
+        return (path.startsWith("/") ? path.substring(1) : path).split("/", -1);
+    }
+}
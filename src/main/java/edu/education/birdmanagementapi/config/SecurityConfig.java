@@ -1,14 +1,17 @@
 package edu.education.birdmanagementapi.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import edu.education.birdmanagementapi.config.filter.JwtTokenValidator;
 import edu.education.birdmanagementapi.service.impl.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -18,6 +21,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Duration;
+
+import static edu.education.birdmanagementapi.config.RouteAuthorizationTable.authenticated;
+import static edu.education.birdmanagementapi.config.RouteAuthorizationTable.hasAnyAuthority;
+import static edu.education.birdmanagementapi.config.RouteAuthorizationTable.hasAnyRole;
+import static edu.education.birdmanagementapi.config.RouteAuthorizationTable.permitAll;
+
 /**
  * Clase de configuracin principal de Spring Security para la API Gestión de Avistamientos de Aves.
  * Define las reglas de autorizacin, el mtodo de autenticacin (Basic Auth) y el codificador de contraseas.
@@ -36,73 +46,109 @@ public class SecurityConfig {
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity,
-                                                   JwtTokenValidator jwtTokenValidator) throws Exception {
+                                                   JwtTokenValidator jwtTokenValidator,
+                                                   RouteAuthorizationTable routeAuthorizationTable,
+                                                   ObjectMapper objectMapper) throws Exception {
         return httpSecurity
                 .csrf(csrf -> csrf.disable())
-                .httpBasic(Customizer.withDefaults())
+                // Los rechazos del pool de hash de contraseñas se responden con 503 en lugar de 401
+                .httpBasic(basic -> basic.authenticationEntryPoint(
+                        new ServiceUnavailableAuthenticationEntryPoint(objectMapper, "Realm")))
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(http -> {
-
-                    /*---------------- Configuración de endpoints PÚBLICOS ----------------*/
-                    http.requestMatchers(HttpMethod.GET, "/method/test").permitAll();
-                    http.requestMatchers("/swagger-ui/**").permitAll();
-                    http.requestMatchers(HttpMethod.POST, "/users/create").permitAll();
-                    http.requestMatchers(HttpMethod.POST, "/auth/login", "/auth/register").permitAll();
-
-                    // Permiso para view Sighting, es publico/INVITED
-                    http.requestMatchers(HttpMethod.GET, "/sightings").hasAnyAuthority("READ", "INVITED");
-
-                    /*---------------- Configuración de endpoints PRIVADOS (por Permiso o Rol) ----------------*/
-
-                    // Endpoint de prueba asegurado
-                    http.requestMatchers(HttpMethod.GET, "/method/test-secured").hasAuthority("READ");
-
-                    // Endpoints de Sighting
-                    http.requestMatchers(HttpMethod.POST, "/sightings").hasAnyRole("ADMIN", "DEVELOPER");
-                    http.requestMatchers(HttpMethod.PUT, "/sightings/{id}").hasAnyRole("ADMIN", "DEVELOPER");
-                    http.requestMatchers(HttpMethod.GET, "/sightings/{id}").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/sightings/birds/{idBird}/sightings").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/sightings/users/{idUser}/sightings").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/sightings/countries/{idCountry}/sightings").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/sightings/habitats/{idHabitat}/sightings").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/sightings/date-range").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.DELETE, "/sightings/{id}").hasAnyRole("ADMIN", "DEVELOPER");
-
-                    // Endpoints de families
-                    http.requestMatchers(HttpMethod.POST, "/families").hasAnyRole("ADMIN", "DEVELOPER");
-                    http.requestMatchers(HttpMethod.PUT, "/families/{id}").hasAnyRole("ADMIN", "DEVELOPER");
-                    http.requestMatchers(HttpMethod.GET, "/families").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/families/{id}").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/families/by-name").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.DELETE, "/families/{id}").hasAnyRole("ADMIN", "DEVELOPER");
-
-                    // Endpoints de birds
-                    http.requestMatchers(HttpMethod.POST, "/birds").hasAnyRole("ADMIN", "DEVELOPER");
-                    http.requestMatchers(HttpMethod.PUT, "/birds/{id}").hasAnyRole("ADMIN", "DEVELOPER");
-                    http.requestMatchers(HttpMethod.GET, "/birds").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/birds/{id}").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/birds/by-name").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.DELETE, "/birds/{id}").hasAnyRole("ADMIN", "DEVELOPER");
-
-                    // Endpoints de habitats
-                    http.requestMatchers(HttpMethod.POST, "/habitats").hasAnyRole("ADMIN", "DEVELOPER");
-                    http.requestMatchers(HttpMethod.PUT, "/habitats/{id}").hasAnyRole("ADMIN", "DEVELOPER");
-                    http.requestMatchers(HttpMethod.GET, "/habitats").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/habitats/{id}").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.GET, "/habitats/by-name").hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED");
-                    http.requestMatchers(HttpMethod.DELETE, "/habitats/{id}").hasAnyRole("ADMIN", "DEVELOPER");
-
-                    // Endpoints de users (Gestión - Requiere permisos altos)
-                    http.requestMatchers("/users/**").hasAnyRole("ADMIN", "DEVELOPER");
-
-                    /*---------------- Configuración del resto de endpoints ----------------*/
-                    http.anyRequest().denyAll();
+                    // Los despachos asíncronos (respuestas en streaming) ya fueron autorizados en la petición original
+                    http.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+                    // Reglas por método y ruta compiladas en la tabla; lo que no tiene regla se deniega
+                    http.anyRequest().access(routeAuthorizationTable);
                 })
                 .addFilterBefore(jwtTokenValidator, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
+    /**
+     * Reglas de autorización por método y ruta. Se compilan al arrancar en un árbol de segmentos, de modo que cada
+     * petición se autoriza con un solo recorrido de su ruta; las rutas sin regla se deniegan.
+     *
+     * @return Tabla de autorización de rutas.
+     */
+    @Bean
+    public RouteAuthorizationTable routeAuthorizationTable() {
+        return new RouteAuthorizationTable()
+                /*---------------- Configuración de endpoints PÚBLICOS ----------------*/
+                .route(HttpMethod.GET, permitAll(), "/method/test")
+                .route(null, permitAll(), "/swagger-ui/**")
+                .route(HttpMethod.POST, permitAll(), "/users/create")
+                .route(HttpMethod.POST, permitAll(), "/auth/login", "/auth/register")
+                .route(HttpMethod.GET, permitAll(), "/actuator/health")
+
+                // Permiso para view Sighting, es publico/INVITED
+                .route(HttpMethod.GET, hasAnyAuthority("READ", "INVITED"), "/sightings")
+
+                /*---------------- Configuración de endpoints PRIVADOS (por Permiso o Rol) ----------------*/
+
+                // Endpoint de prueba asegurado
+                .route(HttpMethod.GET, hasAnyAuthority("READ"), "/method/test-secured")
+
+                // Cierre de sesión: cualquier usuario autenticado puede revocar su propio token
+                .route(HttpMethod.POST, authenticated(), "/auth/logout")
+
+                // Endpoints de Sighting
+                .route(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings")
+                .route(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/batch")
+                .route(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/async")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/async/{ticket}")
+                .route(HttpMethod.PUT, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/{id}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/within")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/nearest")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/export")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/stats/daily")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/heatmap/{z}/{x}/{y}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/{id}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/birds/{idBird}/sightings")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/users/{idUser}/sightings")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/countries/{idCountry}/sightings")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/habitats/{idHabitat}/sightings")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/date-range")
+                .route(HttpMethod.DELETE, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/{id}")
+
+                // Endpoints de families
+                .route(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/families")
+                .route(HttpMethod.PUT, hasAnyRole("ADMIN", "DEVELOPER"), "/families/{id}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/families")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/families/{id}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/families/by-name")
+                .route(HttpMethod.DELETE, hasAnyRole("ADMIN", "DEVELOPER"), "/families/{id}")
+
+                // Endpoints de birds
+                .route(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/birds")
+                .route(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/birds/batch")
+                .route(HttpMethod.PUT, hasAnyRole("ADMIN", "DEVELOPER"), "/birds/{id}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds/suggest")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds/{id}/summary")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds/{id}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds/by-name")
+                .route(HttpMethod.DELETE, hasAnyRole("ADMIN", "DEVELOPER"), "/birds/{id}")
+
+                // Endpoints de habitats
+                .route(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/habitats")
+                .route(HttpMethod.PUT, hasAnyRole("ADMIN", "DEVELOPER"), "/habitats/{id}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/habitats")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/habitats/{id}")
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/habitats/by-name")
+                .route(HttpMethod.DELETE, hasAnyRole("ADMIN", "DEVELOPER"), "/habitats/{id}")
+
+                // Endpoints de métricas (Actuator)
+                .route(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER"), "/actuator/metrics", "/actuator/metrics/**")
+
+                // Endpoints de users (Gestión - Requiere permisos altos)
+                .route(null, hasAnyRole("ADMIN", "DEVELOPER"), "/users/**")
+
+                // Endpoints de roles (Gestión de permisos - Solo administradores)
+                .route(HttpMethod.PUT, hasAnyRole("ADMIN"), "/roles/{id}/permissions");
+    }
+
     /**
      * Bean que proporciona el AuthenticationManager, utilizado para realizar la autenticacin.
      *
@@ -117,28 +163,40 @@ public class SecurityConfig {
 
     /**
      * Define el proveedor de autenticacin que utiliza el UserDetailsService
-     * personalizado y el PasswordEncoder.
+     * personalizado y el PasswordEncoder. Si el PasswordEncoder rechaza la verificación por saturación, el fallo
+     * se propaga como error de autenticación para que Basic Auth responda 503.
      *
      * @param userDetailsService El servicio para cargar los detalles del usuario.
+     * @param passwordEncoder    El codificador de contraseñas.
      * @return El proveedor de autenticacin basado en DAO.
      */
     @Bean
-    public AuthenticationProvider authenticationProvider(UserDetailsServiceImpl userDetailsService) {
-        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-        provider.setPasswordEncoder(passwordEncoder());
+    public AuthenticationProvider authenticationProvider(UserDetailsServiceImpl userDetailsService,
+                                                         PasswordEncoder passwordEncoder) {
+        DaoAuthenticationProvider provider = new BoundedDaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
         provider.setUserDetailsService(userDetailsService);
         return provider;
     }
 
     /**
      * Define el codificador de contraseas utilizado en toda la aplicacin,
-     * asegurando que las contraseas se almacenen como hashes BCrypt.
+     * asegurando que las contraseas se almacenen como hashes BCrypt. El hash se calcula en un pool acotado
+     * (por defecto, un hilo por procesador) para no ocupar los hilos de las peticiones.
      *
-     * @return BCryptPasswordEncoder.
+     * @param meterRegistry Registro de métricas.
+     * @param threads       Hilos del pool; 0 usa el número de procesadores.
+     * @param queueCapacity Operaciones que pueden esperar a un hilo libre.
+     * @param timeout       Espera máxima por el resultado antes de responder 503.
+     * @return BCryptPasswordEncoder ejecutado en un pool acotado.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${security.password-hashing.threads:0}") int threads,
+                                           @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${security.password-hashing.timeout:PT5S}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, timeout, meterRegistry);
     }
 /*    public static void main(String[] args) {
     //Encriptador
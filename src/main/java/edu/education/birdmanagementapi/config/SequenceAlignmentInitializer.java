@@ -0,0 +1,45 @@
+package edu.education.birdmanagementapi.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Alinea las secuencias de IDs con los datos existentes antes de que el servidor web acepte peticiones.
+ * Las tablas creadas cuando los IDs eran {@code IDENTITY} ya tienen filas, y la secuencia nueva empezaría en 1;
+ * se adelanta la secuencia por encima del máximo más un bloque de asignación para evitar colisiones.
+ * <p>
+ * Se ejecuta cuando ya existen todos los singletons (el esquema ya fue creado o actualizado) y antes de arrancar
+ * el servidor web. Si la alineación falla se aborta el arranque: con la secuencia desalineada los inserts
+ * colisionarían con filas existentes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SequenceAlignmentInitializer implements SmartInitializingSingleton {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        align("sightings_seq", "sightings", "id_sighting", 50);
+        align("birds_seq", "birds", "id_bird", 50);
+    }
+
+    private void align(String sequence, String table, String idColumn, int allocationSize) {
+        try {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, Long.class);
+            Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+            if (maxId != null && lastValue != null && lastValue <= maxId) {
+                jdbcTemplate.queryForObject("SELECT setval(?, ?)", Long.class, sequence, maxId + allocationSize);
+                log.info("Secuencia {} alineada con el ID máximo de {}: {}", sequence, table, maxId);
+            }
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("No fue posible alinear la secuencia " + sequence + " con " + table, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package edu.education.birdmanagementapi.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import edu.education.birdmanagementapi.domain.dto.response.ApiResponseDTO;
+import edu.education.birdmanagementapi.exception.ServiceUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Punto de entrada de Basic Auth que responde 503 cuando la autenticación falló porque el servicio no pudo atenderla
+ * (por ejemplo, la cola de {@link BoundedPasswordEncoder} estaba llena), con el mismo cuerpo que
+ * {@code GlobalExceptionHandler}. El resto de fallos se delegan en {@link BasicAuthenticationEntryPoint} (401).
+ */
+@Slf4j
+public class ServiceUnavailableAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final ObjectMapper objectMapper;
+    private final BasicAuthenticationEntryPoint delegate = new BasicAuthenticationEntryPoint();
+
+    /**
+     * @param objectMapper serializador del cuerpo de la respuesta
+     * @param realmName    realm anunciado en la cabecera {@code WWW-Authenticate} de las respuestas 401
+     */
+    public ServiceUnavailableAuthenticationEntryPoint(ObjectMapper objectMapper, String realmName) {
+        this.objectMapper = objectMapper;
+        this.delegate.setRealmName(realmName);
+    }
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        if (!(authException.getCause() instanceof ServiceUnavailableException unavailable)) {
+            delegate.commence(request, response, authException);
+            return;
+        }
+
+        log.warn("Error controlado: {} - {}", unavailable.getErrorCode(), unavailable.getMessage());
+        ApiResponseDTO<Void> body = ApiResponseDTO.<Void>builder()
+                .success(false)
+                .message(unavailable.getMessage())
+                .errorCode(unavailable.getErrorCode())
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(unavailable.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
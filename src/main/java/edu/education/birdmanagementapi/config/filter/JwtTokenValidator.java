@@ -1,6 +1,9 @@
 package edu.education.birdmanagementapi.config.filter;
 
+import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import edu.education.birdmanagementapi.service.index.TokenRevocationList;
+import edu.education.birdmanagementapi.service.index.UserAuthorityCache;
 import edu.education.birdmanagementapi.util.JwtUtils;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -31,13 +34,18 @@ public class JwtTokenValidator extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
     private final UserDetailsService userDetailsService;
+    private final UserAuthorityCache userAuthorityCache;
+    private final TokenRevocationList tokenRevocationList;
 
 
     /**
      * Filtrado que valida el token JWT presente en el header Authorization (Bearer &lt;token&gt;).
-     * Si el token es válido establece la Authentication en el SecurityContext; primero intenta
-     * cargar UserDetails desde la base de datos y, si falla, realiza un fallback usando el
-     * username y las autorizaciones extraídas del token.
+     * Si el token es válido y no ha sido revocado ({@link TokenRevocationList}) establece la Authentication en el SecurityContext. Los UserDetails se obtienen de
+     * {@link UserAuthorityCache} con la versión de seguridad del token (claim {@code sv}); si esa versión ya
+     * está superada o la carga falla (usuario eliminado, base de datos no disponible) la petición continúa sin
+     * autenticar. Solo los tokens sin versión, emitidos antes de que existiera la claim, cargan los UserDetails
+     * desde la base de datos y, si la carga falla, realizan un fallback usando el username y las autorizaciones
+     * extraídas del token.
      *
      * @param request     Petición HTTP entrante.
      * @param response    Respuesta HTTP.
@@ -57,23 +65,43 @@ public class JwtTokenValidator extends OncePerRequestFilter {
 
             DecodedJWT decodedJWT = jwtUtils.validateToken(jwtToken);
 
-            if (decodedJWT != null) {
+            if (decodedJWT != null && tokenRevocationList.isRevoked(decodedJWT.getId(), decodedJWT.getExpiresAtAsInstant())) {
+                log.debug("Token JWT revocado para la petición {}", request.getRequestURI());
+            } else if (decodedJWT != null) {
                 String username = jwtUtils.extractUsername(decodedJWT);
                 String stringAuthorities = jwtUtils.getSpecificClaim(decodedJWT, "authorities") != null
                         ? jwtUtils.getSpecificClaim(decodedJWT, "authorities").asString()
                         : "";
 
-                try {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    Authentication authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                } catch (Exception e) {
-                    log.warn("No se pudo cargar UserDetails (fallback to username): {}", e.getMessage());
-                    Collection<? extends GrantedAuthority> authorities =
-                            AuthorityUtils.commaSeparatedStringToAuthorityList(stringAuthorities);
-                    Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                Claim securityVersion = jwtUtils.getSpecificClaim(decodedJWT, JwtUtils.SECURITY_VERSION_CLAIM);
+
+                if (securityVersion != null && securityVersion.asLong() != null) {
+                    try {
+                        UserDetails userDetails = userAuthorityCache.get(username, securityVersion.asLong());
+                        if (userDetails != null) {
+                            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                                    userDetails, null, userDetails.getAuthorities());
+                            SecurityContextHolder.getContext().setAuthentication(authentication);
+                        } else {
+                            log.debug("JWT de {} con versión de seguridad superada", username);
+                        }
+                    } catch (Exception e) {
+                        log.warn("No se pudo cargar UserDetails de {}; la petición sigue sin autenticar: {}",
+                                username, e.getMessage());
+                    }
+                } else {
+                    try {
+                        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    } catch (Exception e) {
+                        log.warn("No se pudo cargar UserDetails (fallback to username): {}", e.getMessage());
+                        Collection<? extends GrantedAuthority> authorities =
+                                AuthorityUtils.commaSeparatedStringToAuthorityList(stringAuthorities);
+                        Authentication authentication = new UsernamePasswordAuthenticationToken(username, null, authorities);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
                 }
             } else {
                 log.debug("Token JWT inválido o expirado para la petición {}", request.getRequestURI());
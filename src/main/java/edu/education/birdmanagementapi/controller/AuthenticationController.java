@@ -5,10 +5,12 @@ import edu.education.birdmanagementapi.domain.dto.request.AuthLoginRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.response.AuthResponseDTO;
 import edu.education.birdmanagementapi.service.impl.UserDetailsServiceImpl;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -44,4 +46,16 @@ public class AuthenticationController {
         return new ResponseEntity<>(userDetailsService.loginUser(userRequest), HttpStatus.OK);
     }
 
+    /**
+     * Cierra la sesión: el token de la petición queda revocado hasta su caducidad.
+     *
+     * @param authorization Cabecera Authorization (Bearer &lt;token&gt;).
+     * @return ResponseEntity con AuthResponseDTO y status 200.
+     */
+    @PostMapping("logout")
+    public ResponseEntity<AuthResponseDTO> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        String token = authorization.startsWith("Bearer ") ? authorization.substring(7).trim() : authorization;
+        return new ResponseEntity<>(userDetailsService.logout(token), HttpStatus.OK);
+    }
+
 }
@@ -1,13 +1,20 @@
 package edu.education.birdmanagementapi.controller;
 
+import edu.education.birdmanagementapi.domain.dto.request.BirdBatchRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.request.BirdRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.response.ApiResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchResponseDTO;
 import edu.education.birdmanagementapi.domain.dto.response.BirdResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BirdSuggestionResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BirdSummaryResponseDTO;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.service.index.CatalogVersionRegistry;
 import edu.education.birdmanagementapi.service.interfaces.IBirdService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +29,7 @@ import java.util.List;
 public class BirdController {
 
     private final IBirdService birdService;
+    private final CatalogVersionRegistry catalogVersions;
 
     /**
      * Crea una nueva ave en el sistema.
@@ -49,6 +57,32 @@ public class BirdController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Registra un lote de aves en una sola operación.
+     *
+     * @param batchRequestDTO aves a registrar
+     * @param request         objeto HTTP para obtener la ruta de la petición
+     * @return respuesta con el resultado de cada elemento
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponseDTO<BatchResponseDTO>> createBirdsBatch(
+            @Valid @RequestBody BirdBatchRequestDTO batchRequestDTO,
+            HttpServletRequest request) {
+
+        BatchResponseDTO result = birdService.createBirdsBatch(batchRequestDTO);
+
+        ApiResponseDTO<BatchResponseDTO> response = ApiResponseDTO.<BatchResponseDTO>builder()
+                .success(result.rejected() == 0)
+                .message("Lote procesado: " + result.created() + " creadas, " + result.rejected() + " rechazadas.")
+                .data(result)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        log.info("Lote de aves procesado: {} creadas, {} rechazadas", result.created(), result.rejected());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Actualiza los datos de un ave existente.
      *
@@ -80,12 +114,20 @@ public class BirdController {
     /**
      * Obtiene el listado completo de aves registradas.
      *
+     * @param ifNoneMatch ETag que el cliente ya tiene (opcional)
      * @param request objeto HTTP para registrar la ruta de acceso
      * @return lista de aves en el sistema
      */
     @GetMapping
-    public ResponseEntity<ApiResponseDTO<List<BirdResponseDTO>>> getAllBirds(HttpServletRequest request) {
-        List<BirdResponseDTO> birds = birdService.findAllBirds();
+    public ResponseEntity<ApiResponseDTO<List<BirdResponseDTO>>> getAllBirds(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String currentEtag = catalogVersions.etag(CatalogType.BIRD);
+        if (CatalogVersionRegistry.matches(ifNoneMatch, currentEtag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentEtag).build();
+        }
+        CatalogVersionRegistry.Versioned<List<BirdResponseDTO>> versioned = catalogVersions.read(CatalogType.BIRD, birdService::findAllBirds);
+        List<BirdResponseDTO> birds = versioned.data();
 
         ApiResponseDTO<List<BirdResponseDTO>> response = ApiResponseDTO.<List<BirdResponseDTO>>builder()
                 .success(true)
@@ -96,7 +138,7 @@ public class BirdController {
                 .build();
 
         log.info("Total de aves recuperadas: {}", birds.size());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(versioned.etag()).body(response);
     }
 
     /**
@@ -125,19 +167,47 @@ public class BirdController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Consulta un ave con el resumen estadístico de sus avistamientos.
+     *
+     * @param id      identificador del ave
+     * @param request objeto HTTP para registrar la ruta
+     * @return ave con total, primera y última fecha, países y observadores distintos, y conteo mensual
+     */
+    @GetMapping("/{id}/summary")
+    public ResponseEntity<ApiResponseDTO<BirdSummaryResponseDTO>> getBirdSummary(
+            @PathVariable Long id,
+            HttpServletRequest request) {
+
+        BirdSummaryResponseDTO summary = birdService.findBirdSummary(id);
+
+        ApiResponseDTO<BirdSummaryResponseDTO> response = ApiResponseDTO.<BirdSummaryResponseDTO>builder()
+                .success(true)
+                .message("Resumen del ave recuperado con éxito.")
+                .data(summary)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        log.info("Resumen consultado para el ave con ID: {}", id);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Busca aves por nombre común o científico.
      *
      * @param name    término de búsqueda
+     * @param fuzzy   número máximo de errores de escritura tolerados (opcional)
      * @param request objeto HTTP con la ruta de la solicitud
      * @return lista de aves coincidentes con el nombre
      */
     @GetMapping("/by-name")
     public ResponseEntity<ApiResponseDTO<List<BirdResponseDTO>>> getBirdsByName(
             @RequestParam String name,
+            @RequestParam(required = false) Integer fuzzy,
             HttpServletRequest request) {
 
-        List<BirdResponseDTO> results = birdService.searchByName(name);
+        List<BirdResponseDTO> results = birdService.searchByName(name, fuzzy);
 
         ApiResponseDTO<List<BirdResponseDTO>> response = ApiResponseDTO.<List<BirdResponseDTO>>builder()
                 .success(true)
@@ -151,6 +221,33 @@ public class BirdController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Sugiere aves para autocompletar a partir de un prefijo del nombre común o científico.
+     *
+     * @param prefix  texto escrito por el usuario
+     * @param limit   número máximo de sugerencias (opcional)
+     * @param request objeto HTTP con la ruta de la solicitud
+     * @return sugerencias de aves; lista vacía si no hay coincidencias
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponseDTO<List<BirdSuggestionResponseDTO>>> suggestBirds(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit,
+            HttpServletRequest request) {
+
+        List<BirdSuggestionResponseDTO> suggestions = birdService.suggestByPrefix(prefix, limit);
+
+        ApiResponseDTO<List<BirdSuggestionResponseDTO>> response = ApiResponseDTO.<List<BirdSuggestionResponseDTO>>builder()
+                .success(true)
+                .message("Sugerencias de aves recuperadas con éxito.")
+                .data(suggestions)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Elimina un ave por su identificador.
      *
@@ -3,11 +3,14 @@ package edu.education.birdmanagementapi.controller;
 import edu.education.birdmanagementapi.domain.dto.request.FamilyRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.response.ApiResponseDTO;
 import edu.education.birdmanagementapi.domain.dto.response.FamilyResponseDTO;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.service.index.CatalogVersionRegistry;
 import edu.education.birdmanagementapi.service.interfaces.IFamilyService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +25,7 @@ import java.util.List;
 public class FamilyController {
 
     private final IFamilyService familyService;
+    private final CatalogVersionRegistry catalogVersions;
 
 
     /**
@@ -76,12 +80,20 @@ public class FamilyController {
     /**
      * Obtiene todas las familias.
      *
+     * @param ifNoneMatch ETag que el cliente ya tiene (opcional)
      * @param request información HTTP
      * @return lista de familias
      */
     @GetMapping
-    public ResponseEntity<ApiResponseDTO<List<FamilyResponseDTO>>> getAllFamilies(HttpServletRequest request) {
-        List<FamilyResponseDTO> allFamilies = familyService.findAllFamilies();
+    public ResponseEntity<ApiResponseDTO<List<FamilyResponseDTO>>> getAllFamilies(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String currentEtag = catalogVersions.etag(CatalogType.FAMILY);
+        if (CatalogVersionRegistry.matches(ifNoneMatch, currentEtag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentEtag).build();
+        }
+        CatalogVersionRegistry.Versioned<List<FamilyResponseDTO>> versioned = catalogVersions.read(CatalogType.FAMILY, familyService::findAllFamilies);
+        List<FamilyResponseDTO> allFamilies = versioned.data();
 
         ApiResponseDTO<List<FamilyResponseDTO>> response = ApiResponseDTO.<List<FamilyResponseDTO>>builder()
                 .success(true)
@@ -92,7 +104,7 @@ public class FamilyController {
                 .build();
 
         log.info("Total de familias recuperadas: {}", allFamilies.size());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(versioned.etag()).body(response);
     }
 
     /**
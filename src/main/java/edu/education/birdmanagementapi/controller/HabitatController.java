@@ -3,11 +3,14 @@ package edu.education.birdmanagementapi.controller;
 import edu.education.birdmanagementapi.domain.dto.request.HabitatRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.response.ApiResponseDTO;
 import edu.education.birdmanagementapi.domain.dto.response.HabitatResponseDTO;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.service.index.CatalogVersionRegistry;
 import edu.education.birdmanagementapi.service.interfaces.IHabitatService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +25,7 @@ import java.util.List;
 public class HabitatController {
 
     private final IHabitatService habitatService;
+    private final CatalogVersionRegistry catalogVersions;
 
 
     /**
@@ -79,12 +83,20 @@ public class HabitatController {
     /**
      * Recupera el listado completo de hábitats registrados en el sistema.
      *
+     * @param ifNoneMatch ETag que el cliente ya tiene (opcional)
      * @param request información del contexto HTTP.
      * @return una lista de todos los hábitats y estado {@code 200 OK}.
      */
     @GetMapping
-    public ResponseEntity<ApiResponseDTO<List<HabitatResponseDTO>>> getAllHabitats(HttpServletRequest request) {
-        List<HabitatResponseDTO> allHabitats = habitatService.findAllHabitats();
+    public ResponseEntity<ApiResponseDTO<List<HabitatResponseDTO>>> getAllHabitats(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request) {
+        String currentEtag = catalogVersions.etag(CatalogType.HABITAT);
+        if (CatalogVersionRegistry.matches(ifNoneMatch, currentEtag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentEtag).build();
+        }
+        CatalogVersionRegistry.Versioned<List<HabitatResponseDTO>> versioned = catalogVersions.read(CatalogType.HABITAT, habitatService::findAllHabitats);
+        List<HabitatResponseDTO> allHabitats = versioned.data();
 
         ApiResponseDTO<List<HabitatResponseDTO>> response = ApiResponseDTO.<List<HabitatResponseDTO>>builder()
                 .success(true)
@@ -95,7 +107,7 @@ public class HabitatController {
                 .build();
 
         log.info("Total de habitats recuperados: {} ", allHabitats.size());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().eTag(versioned.etag()).body(response);
     }
 
     /**
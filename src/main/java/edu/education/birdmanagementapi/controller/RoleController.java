@@ -0,0 +1,53 @@
+package edu.education.birdmanagementapi.controller;
+
+import edu.education.birdmanagementapi.domain.dto.request.RolePermissionsRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.response.ApiResponseDTO;
+import edu.education.birdmanagementapi.service.impl.UserDetailsServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RestController
+@RequestMapping("/roles")
+@RequiredArgsConstructor
+public class RoleController {
+
+    private final UserDetailsServiceImpl userDetailsService;
+
+
+    /**
+     * Reemplaza los permisos de un rol; los tokens de los usuarios que lo tienen dejan de aceptarse de inmediato.
+     *
+     * @param id                        id del rol
+     * @param rolePermissionsRequestDTO permisos que tendrá el rol
+     * @param request                   información HTTP
+     * @return número de usuarios cuyos tokens se invalidaron
+     */
+    @PutMapping("/{id}/permissions")
+    public ResponseEntity<ApiResponseDTO<Integer>> updatePermissions(@PathVariable Long id,
+                                                                     @Valid @RequestBody RolePermissionsRequestDTO rolePermissionsRequestDTO,
+                                                                     HttpServletRequest request) {
+        int affectedUsers = userDetailsService.updateRolePermissions(id, rolePermissionsRequestDTO);
+        ApiResponseDTO<Integer> response = ApiResponseDTO.<Integer>builder()
+                .success(true)
+                .message("Permisos del rol actualizados con éxito.")
+                .data(affectedUsers)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        log.info("Permisos del rol {} actualizados; {} usuarios deben volver a autenticarse", id, affectedUsers);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
@@ -1,8 +1,16 @@
 package edu.education.birdmanagementapi.controller;
 
+import edu.education.birdmanagementapi.domain.dto.request.SightingBatchRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.request.SightingRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.response.ApiResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.CursorPageResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.DailySightingStatResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.HeatmapTileResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.IngestionTicketResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.NearestSightingResponseDTO;
 import edu.education.birdmanagementapi.domain.dto.response.SightingResponseDTO;
+import edu.education.birdmanagementapi.service.interfaces.ISightingIngestionService;
 import edu.education.birdmanagementapi.service.interfaces.ISightingService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -10,9 +18,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -23,6 +34,7 @@ import java.util.List;
 public class SightingController {
 
     private final ISightingService sightingService;
+    private final ISightingIngestionService sightingIngestionService;
 
     /**
      * Crea un nuevo avistamiento.
@@ -45,6 +57,73 @@ public class SightingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * Registra un lote de avistamientos en una sola operación.
+     *
+     * @param batchRequestDTO avistamientos a registrar
+     * @param request         HttpServletRequest para path
+     * @return ApiResponseDTO con el resultado de cada elemento
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponseDTO<BatchResponseDTO>> createSightingsBatch(
+            @Valid @RequestBody SightingBatchRequestDTO batchRequestDTO, HttpServletRequest request) {
+
+        BatchResponseDTO result = sightingService.createSightingsBatch(batchRequestDTO);
+        ApiResponseDTO<BatchResponseDTO> response = ApiResponseDTO.<BatchResponseDTO>builder()
+                .success(result.rejected() == 0)
+                .message("Lote procesado: " + result.created() + " creados, " + result.rejected() + " rechazados.")
+                .data(result)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Encola un avistamiento para registrarlo de forma asíncrona.
+     *
+     * @param sightingRequestDTO datos del avistamiento a registrar
+     * @param request            HttpServletRequest para path
+     * @return ApiResponseDTO con el ticket para consultar el estado (202)
+     */
+    @PostMapping("/async")
+    public ResponseEntity<ApiResponseDTO<IngestionTicketResponseDTO>> enqueueSighting(
+            @Valid @RequestBody SightingRequestDTO sightingRequestDTO, HttpServletRequest request) {
+
+        IngestionTicketResponseDTO ticket = sightingIngestionService.enqueue(sightingRequestDTO);
+        ApiResponseDTO<IngestionTicketResponseDTO> response = ApiResponseDTO.<IngestionTicketResponseDTO>builder()
+                .success(true)
+                .message("Avistamiento recibido, pendiente de registro.")
+                .data(ticket)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    /**
+     * Consulta el estado de un avistamiento enviado a la ingesta asíncrona.
+     *
+     * @param ticket  ticket devuelto al encolar
+     * @param request HttpServletRequest para path
+     * @return ApiResponseDTO con el estado del ticket
+     */
+    @GetMapping("/async/{ticket}")
+    public ResponseEntity<ApiResponseDTO<IngestionTicketResponseDTO>> getIngestionTicket(
+            @PathVariable String ticket,
+            HttpServletRequest request) {
+
+        IngestionTicketResponseDTO status = sightingIngestionService.findTicket(ticket);
+        ApiResponseDTO<IngestionTicketResponseDTO> response = ApiResponseDTO.<IngestionTicketResponseDTO>builder()
+                .success(true)
+                .message("Estado de ingesta recuperado con éxito.")
+                .data(status)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Actualiza un avistamiento existente.
      *
@@ -74,26 +153,31 @@ public class SightingController {
     }
 
     /**
-     * Recupera todos los avistamientos.
+     * Recupera los avistamientos paginados por cursor.
      *
+     * @param cursor  cursor devuelto en la página anterior (opcional)
+     * @param size    tamaño de página (opcional, acotado por el servidor)
      * @param request HttpServletRequest para path
-     * @return ApiResponseDTO con la lista de avistamientos
+     * @return ApiResponseDTO con la página de avistamientos
      */
     @GetMapping
-    public ResponseEntity<ApiResponseDTO<List<SightingResponseDTO>>> getAllSightings(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>>> getAllSightings(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             HttpServletRequest request) {
 
-        List<SightingResponseDTO> list = sightingService.findAllSightings();
+        CursorPageResponseDTO<SightingResponseDTO> page = sightingService.findAllSightings(cursor, size);
 
-        ApiResponseDTO<List<SightingResponseDTO>> response = ApiResponseDTO.<List<SightingResponseDTO>>builder()
+        ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>> response =
+                ApiResponseDTO.<CursorPageResponseDTO<SightingResponseDTO>>builder()
                 .success(true)
                 .message("Listado de avistamientos recuperado con éxito.")
-                .data(list)
+                .data(page)
                 .timestamp(LocalDateTime.now())
                 .path(request.getRequestURI())
                 .build();
 
-        log.info("Total de avistamientos recuperados: {}", list.size());
+        log.info("Total de avistamientos recuperados: {}", page.size());
         return ResponseEntity.ok(response);
     }
 
@@ -127,19 +211,24 @@ public class SightingController {
      * Busca avistamientos por ID del ave.
      *
      * @param idBird  id del ave
+     * @param cursor  cursor devuelto en la página anterior (opcional)
+     * @param size    tamaño de página (opcional, acotado por el servidor)
      * @param request HttpServletRequest para path
-     * @return ApiResponseDTO con la lista de avistamientos
+     * @return ApiResponseDTO con la página de avistamientos
      */
     @GetMapping("/birds/{idBird}/sightings")
-    public ResponseEntity<ApiResponseDTO<List<SightingResponseDTO>>> getByBirdId(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>>> getByBirdId(
             @PathVariable Long idBird,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             HttpServletRequest request) {
 
-        List<SightingResponseDTO> results = sightingService.findByBirdId(idBird);
+        CursorPageResponseDTO<SightingResponseDTO> results = sightingService.findByBirdId(idBird, cursor, size);
 
-        ApiResponseDTO<List<SightingResponseDTO>> response = ApiResponseDTO.<List<SightingResponseDTO>>builder()
+        ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>> response =
+                ApiResponseDTO.<CursorPageResponseDTO<SightingResponseDTO>>builder()
                 .success(true)
-                .message(results.isEmpty() ? "No se encontaron aviatamientos." : "Avistamientos recuperados con éxito.")
+                .message(results.content().isEmpty() ? "No se encontaron aviatamientos." : "Avistamientos recuperados con éxito.")
                 .data(results)
                 .timestamp(LocalDateTime.now())
                 .path(request.getRequestURI())
@@ -153,17 +242,22 @@ public class SightingController {
      * Busca avistamientos por ID del usuario.
      *
      * @param idUser  id del usuario
+     * @param cursor  cursor devuelto en la página anterior (opcional)
+     * @param size    tamaño de página (opcional, acotado por el servidor)
      * @param request HttpServletRequest para path
-     * @return ApiResponseDTO con la lista de avistamientos
+     * @return ApiResponseDTO con la página de avistamientos
      */
     @GetMapping("/users/{idUser}/sightings")
-    public ResponseEntity<ApiResponseDTO<List<SightingResponseDTO>>> getByUserId(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>>> getByUserId(
             @PathVariable Long idUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             HttpServletRequest request) {
 
-        List<SightingResponseDTO> results = sightingService.findByUserId(idUser);
+        CursorPageResponseDTO<SightingResponseDTO> results = sightingService.findByUserId(idUser, cursor, size);
 
-        ApiResponseDTO<List<SightingResponseDTO>> response = ApiResponseDTO.<List<SightingResponseDTO>>builder()
+        ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>> response =
+                ApiResponseDTO.<CursorPageResponseDTO<SightingResponseDTO>>builder()
                 .success(true)
                 .message("Avistamientos por usuario recuperados con éxito.")
                 .data(results)
@@ -179,17 +273,22 @@ public class SightingController {
      * Busca avistamientos por ID del país.
      *
      * @param idCountry id del país
+     * @param cursor    cursor devuelto en la página anterior (opcional)
+     * @param size      tamaño de página (opcional, acotado por el servidor)
      * @param request   HttpServletRequest para path
-     * @return ApiResponseDTO con la lista de avistamientos
+     * @return ApiResponseDTO con la página de avistamientos
      */
     @GetMapping("/countries/{idCountry}/sightings")
-    public ResponseEntity<ApiResponseDTO<List<SightingResponseDTO>>> getByCountryId(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>>> getByCountryId(
             @PathVariable Long idCountry,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             HttpServletRequest request) {
 
-        List<SightingResponseDTO> results = sightingService.findByCountryId(idCountry);
+        CursorPageResponseDTO<SightingResponseDTO> results = sightingService.findByCountryId(idCountry, cursor, size);
 
-        ApiResponseDTO<List<SightingResponseDTO>> response = ApiResponseDTO.<List<SightingResponseDTO>>builder()
+        ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>> response =
+                ApiResponseDTO.<CursorPageResponseDTO<SightingResponseDTO>>builder()
                 .success(true)
                 .message("Avistamientos por país recuperados con éxito.")
                 .data(results)
@@ -205,17 +304,22 @@ public class SightingController {
      * Busca avistamientos por ID del hábitat.
      *
      * @param idHabitat id del hábitat
+     * @param cursor    cursor devuelto en la página anterior (opcional)
+     * @param size      tamaño de página (opcional, acotado por el servidor)
      * @param request   HttpServletRequest para path
-     * @return ApiResponseDTO con la lista de avistamientos
+     * @return ApiResponseDTO con la página de avistamientos
      */
     @GetMapping("/habitats/{idHabitat}/sightings")
-    public ResponseEntity<ApiResponseDTO<List<SightingResponseDTO>>> getByHabitatId(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>>> getByHabitatId(
             @PathVariable Long idHabitat,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             HttpServletRequest request) {
 
-        List<SightingResponseDTO> results = sightingService.findByHabitatId(idHabitat);
+        CursorPageResponseDTO<SightingResponseDTO> results = sightingService.findByHabitatId(idHabitat, cursor, size);
 
-        ApiResponseDTO<List<SightingResponseDTO>> response = ApiResponseDTO.<List<SightingResponseDTO>>builder()
+        ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>> response =
+                ApiResponseDTO.<CursorPageResponseDTO<SightingResponseDTO>>builder()
                 .success(true)
                 .message("Avistamientos por hábitat recuperados con éxito.")
                 .data(results)
@@ -232,20 +336,25 @@ public class SightingController {
      *
      * @param from    fecha/hora de inicio (ISO-8601)
      * @param to      fecha/hora de fin (ISO-8601)
+     * @param cursor  cursor devuelto en la página anterior (opcional)
+     * @param size    tamaño de página (opcional, acotado por el servidor)
      * @param request HttpServletRequest para path
-     * @return ApiResponseDTO con la lista de avistamientos dentro del rango
+     * @return ApiResponseDTO con la página de avistamientos dentro del rango
      */
     @GetMapping("/date-range")
-    public ResponseEntity<ApiResponseDTO<List<SightingResponseDTO>>> getByDateRange(
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>>> getByDateRange(
             @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
             LocalDateTime from,
             @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
             LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             HttpServletRequest request) {
 
-        List<SightingResponseDTO> results = sightingService.findByDateRange(from, to);
+        CursorPageResponseDTO<SightingResponseDTO> results = sightingService.findByDateRange(from, to, cursor, size);
 
-        ApiResponseDTO<List<SightingResponseDTO>> response = ApiResponseDTO.<List<SightingResponseDTO>>builder()
+        ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>> response =
+                ApiResponseDTO.<CursorPageResponseDTO<SightingResponseDTO>>builder()
                 .success(true)
                 .message("Avistamientos en el rango de fechas recuperados con éxito.")
                 .data(results)
@@ -257,6 +366,181 @@ public class SightingController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Busca avistamientos dentro de una caja geográfica (para clientes de mapa).
+     *
+     * @param minLat  latitud mínima
+     * @param minLon  longitud mínima
+     * @param maxLat  latitud máxima
+     * @param maxLon  longitud máxima
+     * @param cursor  cursor devuelto en la página anterior (opcional)
+     * @param size    tamaño de página (opcional, acotado por el servidor)
+     * @param request HttpServletRequest para path
+     * @return ApiResponseDTO con la página de avistamientos dentro de la caja
+     */
+    @GetMapping("/within")
+    public ResponseEntity<ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>>> getWithinBoundingBox(
+            @RequestParam double minLat,
+            @RequestParam double minLon,
+            @RequestParam double maxLat,
+            @RequestParam double maxLon,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request) {
+
+        CursorPageResponseDTO<SightingResponseDTO> page = sightingService.findWithinBoundingBox(minLat, minLon, maxLat,
+                maxLon, cursor, size);
+
+        ApiResponseDTO<CursorPageResponseDTO<SightingResponseDTO>> response =
+                ApiResponseDTO.<CursorPageResponseDTO<SightingResponseDTO>>builder()
+                .success(true)
+                .message("Avistamientos dentro del área recuperados con éxito.")
+                .data(page)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        log.info("Búsqueda de avistamientos por área [{}, {}] - [{}, {}], resultados={}", minLat, minLon, maxLat,
+                maxLon, page.size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Recupera los avistamientos más cercanos a un punto, opcionalmente de una sola ave.
+     *
+     * @param lat     latitud del punto
+     * @param lon     longitud del punto
+     * @param k       número de vecinos (por defecto 20, acotado por el servidor)
+     * @param idBird  id del ave (opcional)
+     * @param request HttpServletRequest para path
+     * @return ApiResponseDTO con los vecinos ordenados por distancia
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<ApiResponseDTO<List<NearestSightingResponseDTO>>> getNearest(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "20") Integer k,
+            @RequestParam(required = false) Long idBird,
+            HttpServletRequest request) {
+
+        List<NearestSightingResponseDTO> results = sightingService.findNearest(lat, lon, k, idBird);
+
+        ApiResponseDTO<List<NearestSightingResponseDTO>> response = ApiResponseDTO.<List<NearestSightingResponseDTO>>builder()
+                .success(true)
+                .message("Avistamientos más cercanos recuperados con éxito.")
+                .data(results)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        log.debug("Búsqueda de vecinos cercanos a [{}, {}], aveId={}, resultados={}", lat, lon, idBird,
+                results.size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Recupera la densidad de avistamientos de una tesela de mapa z/x/y.
+     *
+     * @param z       nivel de zoom
+     * @param x       columna de la tesela
+     * @param y       fila de la tesela
+     * @param idBird  id del ave (opcional)
+     * @param from    fecha/hora de inicio en ISO-8601 (opcional)
+     * @param to      fecha/hora de fin en ISO-8601 (opcional)
+     * @param request HttpServletRequest para path
+     * @return ApiResponseDTO con los conteos por celda
+     */
+    @GetMapping("/heatmap/{z}/{x}/{y}")
+    public ResponseEntity<ApiResponseDTO<HeatmapTileResponseDTO>> getHeatmapTile(
+            @PathVariable int z,
+            @PathVariable int x,
+            @PathVariable int y,
+            @RequestParam(required = false) Long idBird,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to,
+            HttpServletRequest request) {
+
+        HeatmapTileResponseDTO tile = sightingService.findHeatmapTile(z, x, y, idBird, from, to);
+
+        ApiResponseDTO<HeatmapTileResponseDTO> response = ApiResponseDTO.<HeatmapTileResponseDTO>builder()
+                .success(true)
+                .message("Mapa de calor recuperado con éxito.")
+                .data(tile)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        log.debug("Tesela de mapa de calor {}/{}/{}, aveId={}, celdas={}", z, x, y, idBird, tile.cells().size());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Exporta los avistamientos en NDJSON (un objeto JSON por línea) escribiendo directamente en la respuesta.
+     *
+     * @param idBird    id del ave (opcional)
+     * @param idCountry id del país (opcional)
+     * @param idHabitat id del hábitat (opcional)
+     * @param from      fecha/hora de inicio en ISO-8601 (opcional)
+     * @param to        fecha/hora de fin en ISO-8601 (opcional)
+     * @return cuerpo en streaming con los avistamientos
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSightings(
+            @RequestParam(required = false) Long idBird,
+            @RequestParam(required = false) Long idCountry,
+            @RequestParam(required = false) Long idHabitat,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime to) {
+
+        StreamingResponseBody body = sightingService.exportSightings(idBird, idCountry, idHabitat, from, to);
+
+        log.info("Exportación de avistamientos solicitada: aveId={}, countryId={}, habitatId={}, from={}, to={}",
+                idBird, idCountry, idHabitat, from, to);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Recupera el acumulado diario de avistamientos por ave, país y hábitat.
+     *
+     * @param from      día inicial en ISO-8601 (inclusive)
+     * @param to        día final en ISO-8601 (inclusive)
+     * @param idBird    id del ave (opcional)
+     * @param idCountry id del país (opcional)
+     * @param idHabitat id del hábitat (opcional)
+     * @param request   HttpServletRequest para path
+     * @return ApiResponseDTO con los buckets del rango
+     */
+    @GetMapping("/stats/daily")
+    public ResponseEntity<ApiResponseDTO<List<DailySightingStatResponseDTO>>> getDailyStats(
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long idBird,
+            @RequestParam(required = false) Long idCountry,
+            @RequestParam(required = false) Long idHabitat,
+            HttpServletRequest request) {
+
+        List<DailySightingStatResponseDTO> results = sightingService.findDailyStats(from, to, idBird, idCountry,
+                idHabitat);
+
+        ApiResponseDTO<List<DailySightingStatResponseDTO>> response =
+                ApiResponseDTO.<List<DailySightingStatResponseDTO>>builder()
+                .success(true)
+                .message("Estadísticas diarias de avistamientos recuperadas con éxito.")
+                .data(results)
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        log.info("Estadísticas diarias from={}, to={}, buckets={}", from, to, results.size());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Elimina un avistamiento por su ID.
      *
@@ -0,0 +1,46 @@
+package edu.education.birdmanagementapi.controller;
+
+import edu.education.birdmanagementapi.domain.dto.response.ApiResponseDTO;
+import edu.education.birdmanagementapi.service.impl.UserDetailsServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class UserController {
+
+    private final UserDetailsServiceImpl userDetailsService;
+
+
+    /**
+     * Deshabilita un usuario; sus tokens dejan de aceptarse de inmediato.
+     *
+     * @param id      id del usuario
+     * @param request información HTTP
+     * @return confirmación sin datos
+     */
+    @PatchMapping("/{id}/disable")
+    public ResponseEntity<ApiResponseDTO<Void>> disableUser(@PathVariable Long id, HttpServletRequest request) {
+        userDetailsService.disableUser(id);
+        ApiResponseDTO<Void> response = ApiResponseDTO.<Void>builder()
+                .success(true)
+                .message("Usuario deshabilitado con éxito.")
+                .timestamp(LocalDateTime.now())
+                .path(request.getRequestURI())
+                .build();
+
+        log.info("Usuario deshabilitado: {}", id);
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+}
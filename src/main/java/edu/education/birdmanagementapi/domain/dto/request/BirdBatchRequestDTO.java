@@ -0,0 +1,17 @@
+package edu.education.birdmanagementapi.domain.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@JsonPropertyOrder({"birds"})
+public record BirdBatchRequestDTO(
+        @NotEmpty(message = "El lote debe contener al menos un ave.")
+        @Size(max = 5000, message = "El lote no puede exceder las 5000 aves.")
+        List<@Valid BirdRequestDTO> birds) {
+}
@@ -0,0 +1,14 @@
+package edu.education.birdmanagementapi.domain.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+
+import java.util.Set;
+
+@Builder
+@JsonPropertyOrder({"permissions"})
+public record RolePermissionsRequestDTO(
+        @NotNull(message = "La lista de permisos es obligatoria.")
+        Set<String> permissions) {
+}
@@ -0,0 +1,17 @@
+package edu.education.birdmanagementapi.domain.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@JsonPropertyOrder({"sightings"})
+public record SightingBatchRequestDTO(
+        @NotEmpty(message = "El lote debe contener al menos un avistamiento.")
+        @Size(max = 1000, message = "El lote no puede exceder los 1000 avistamientos.")
+        List<@Valid SightingRequestDTO> sightings) {
+}
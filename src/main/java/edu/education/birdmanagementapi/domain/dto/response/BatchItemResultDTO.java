@@ -0,0 +1,25 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+/**
+ * Resultado de un elemento dentro de una operación por lotes.
+ *
+ * @param index     posición del elemento en la solicitud
+ * @param success   si el elemento fue registrado
+ * @param id        identificador asignado (solo si fue registrado)
+ * @param errorCode código de error (solo si fue rechazado)
+ * @param message   detalle del resultado
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"index", "success", "id", "errorCode", "message"})
+public record BatchItemResultDTO(
+        int index,
+        boolean success,
+        Long id,
+        String errorCode,
+        String message) {
+}
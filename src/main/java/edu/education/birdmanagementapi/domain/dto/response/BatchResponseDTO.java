@@ -0,0 +1,15 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@JsonPropertyOrder({"received", "created", "rejected", "results"})
+public record BatchResponseDTO(
+        int received,
+        int created,
+        int rejected,
+        List<BatchItemResultDTO> results) {
+}
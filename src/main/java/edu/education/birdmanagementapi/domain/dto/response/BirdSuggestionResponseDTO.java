@@ -0,0 +1,12 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+@Builder
+@JsonPropertyOrder({"idBird", "commonName", "scientificName"})
+public record BirdSuggestionResponseDTO(
+        Long idBird,
+        String commonName,
+        String scientificName) {
+}
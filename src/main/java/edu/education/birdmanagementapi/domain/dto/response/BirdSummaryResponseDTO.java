@@ -0,0 +1,23 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@JsonPropertyOrder({"bird", "totalSightings", "firstSighting", "lastSighting", "distinctCountries",
+        "distinctObservers", "monthlyCounts"})
+public record BirdSummaryResponseDTO(
+        BirdResponseDTO bird,
+        long totalSightings,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime firstSighting,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime lastSighting,
+        long distinctCountries,
+        long distinctObservers,
+        List<MonthlySightingCountDTO> monthlyCounts) {
+}
@@ -0,0 +1,21 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Página de resultados paginada por cursor (keyset).
+ * El cliente debe reenviar {@code nextCursor} para obtener la siguiente página.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"content", "size", "hasNext", "nextCursor"})
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor) {
+}
@@ -0,0 +1,22 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.time.LocalDate;
+
+@Builder
+@JsonPropertyOrder({"date", "idBird", "birdName", "idCountry", "countryName", "idHabitat", "habitatName",
+        "sightingCount"})
+public record DailySightingStatResponseDTO(
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate date,
+        Long idBird,
+        String birdName,
+        Long idCountry,
+        String countryName,
+        Long idHabitat,
+        String habitatName,
+        long sightingCount) {
+}
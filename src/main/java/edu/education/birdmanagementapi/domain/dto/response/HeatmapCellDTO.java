@@ -0,0 +1,19 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+/**
+ * Celda de la rejilla de un mapa de calor.
+ *
+ * @param col   columna dentro de la tesela (0 en el oeste)
+ * @param row   fila dentro de la tesela (0 en el norte)
+ * @param count número de avistamientos en la celda
+ */
+@Builder
+@JsonPropertyOrder({"col", "row", "count"})
+public record HeatmapCellDTO(
+        int col,
+        int row,
+        long count) {
+}
@@ -0,0 +1,21 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Densidad de avistamientos de una tesela z/x/y, agregada en una rejilla de {@code gridSize × gridSize} celdas.
+ * Solo se incluyen las celdas con avistamientos.
+ */
+@Builder
+@JsonPropertyOrder({"z", "x", "y", "gridSize", "total", "cells"})
+public record HeatmapTileResponseDTO(
+        int z,
+        int x,
+        int y,
+        int gridSize,
+        long total,
+        List<HeatmapCellDTO> cells) {
+}
@@ -0,0 +1,32 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import edu.education.birdmanagementapi.domain.enums.IngestionStatus;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado de un ticket de ingesta asíncrona.
+ *
+ * @param ticket     identificador del ticket
+ * @param status     estado actual
+ * @param idSighting ID asignado (solo si fue creado)
+ * @param errorCode  código de error (solo si fue rechazado o falló)
+ * @param message    detalle del estado
+ * @param updatedAt  fecha/hora del último cambio de estado
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonPropertyOrder({"ticket", "status", "idSighting", "errorCode", "message", "updatedAt"})
+public record IngestionTicketResponseDTO(
+        String ticket,
+        IngestionStatus status,
+        Long idSighting,
+        String errorCode,
+        String message,
+        @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+        LocalDateTime updatedAt) {
+}
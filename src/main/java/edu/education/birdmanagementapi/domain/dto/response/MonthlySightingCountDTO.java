@@ -0,0 +1,15 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+import java.time.YearMonth;
+
+@Builder
+@JsonPropertyOrder({"month", "sightingCount"})
+public record MonthlySightingCountDTO(
+        @JsonFormat(pattern = "yyyy-MM")
+        YearMonth month,
+        long sightingCount) {
+}
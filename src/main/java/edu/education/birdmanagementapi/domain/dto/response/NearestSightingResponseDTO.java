@@ -0,0 +1,14 @@
+package edu.education.birdmanagementapi.domain.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Builder;
+
+@Builder
+@JsonPropertyOrder({"idSighting", "idBird", "latitude", "longitude", "distanceKm"})
+public record NearestSightingResponseDTO(
+        Long idSighting,
+        Long idBird,
+        Double latitude,
+        Double longitude,
+        Double distanceKm) {
+}
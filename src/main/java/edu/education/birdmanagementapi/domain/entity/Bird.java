@@ -23,11 +23,12 @@ import java.util.Set;
 public class Bird implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "birds_seq")
+    @SequenceGenerator(name = "birds_seq", sequenceName = "birds_seq", allocationSize = 50)
     @Column(name = "id_bird")
     Long idBird;
 
-    @Column(name = "common_name", nullable = false, length = 50)
+    @Column(name = "common_name", nullable = false, length = 50, unique = true)
     String commonName;
 
     @Column(name = "scientific_name", nullable = false, length = 50, unique = true)
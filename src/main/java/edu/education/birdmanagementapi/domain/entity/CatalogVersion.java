@@ -0,0 +1,31 @@
+package edu.education.birdmanagementapi.domain.entity;
+
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+/**
+ * Versión de un catálogo, compartida por todas las instancias. Se incrementa en la misma transacción que modifica
+ * el catálogo y sirve para construir los ETags de sus listados.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "catalog_versions")
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class CatalogVersion implements Serializable {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "catalog_type", length = 20)
+    CatalogType catalogType;
+
+    @Column(name = "version", nullable = false)
+    long version;
+}
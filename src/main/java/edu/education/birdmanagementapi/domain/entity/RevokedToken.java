@@ -0,0 +1,37 @@
+package edu.education.birdmanagementapi.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * JWT revocado antes de su caducidad (cierre de sesión). Se conserva hasta que el token caduca para reconstruir
+ * la lista de revocación en memoria al arrancar; el instante de revocación permite a cada instancia leer las
+ * revocaciones hechas en las demás.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at")
+})
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RevokedToken implements Serializable {
+
+    @Id
+    @Column(name = "jti", length = 36)
+    String jti;
+
+    @Column(name = "expires_at", nullable = false)
+    Instant expiresAt;
+
+    @Column(name = "revoked_at")
+    Instant revokedAt;
+}
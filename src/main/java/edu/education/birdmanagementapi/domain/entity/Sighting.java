@@ -14,12 +14,20 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "Sightings")
+@Table(name = "Sightings", indexes = {
+        @Index(name = "idx_sightings_bird_id", columnList = "id_bird, id_sighting"),
+        @Index(name = "idx_sightings_user_id", columnList = "id_user, id_sighting"),
+        @Index(name = "idx_sightings_country_id", columnList = "id_country, id_sighting"),
+        @Index(name = "idx_sightings_habitat_id", columnList = "id_habitat, id_sighting"),
+        @Index(name = "idx_sightings_date_time_id", columnList = "sighting_date_time, id_sighting"),
+        @Index(name = "idx_sightings_geohash", columnList = "geohash")
+})
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class Sighting implements Serializable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sightings_seq")
+    @SequenceGenerator(name = "sightings_seq", sequenceName = "sightings_seq", allocationSize = 50)
     @Column(name = "id_sighting")
     Long idSighting;
 
@@ -29,6 +37,9 @@ public class Sighting implements Serializable {
     @Column(name = "longitude")
     Double longitude;
 
+    @Column(name = "geohash", length = 12)
+    String geohash;
+
     @Column(name = "sighting_date_time", nullable = false)
     @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
     LocalDateTime sightingDateTime;
@@ -0,0 +1,30 @@
+package edu.education.birdmanagementapi.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+/**
+ * Número de avistamientos por día, ave, país y hábitat. Se mantiene de forma incremental en la misma
+ * transacción que modifica los avistamientos.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "sighting_daily_stats", indexes = {
+        @Index(name = "idx_sighting_daily_stats_date", columnList = "stat_date")
+})
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SightingDailyStat implements Serializable {
+
+    @EmbeddedId
+    SightingDailyStatId id;
+
+    @Column(name = "sighting_count", nullable = false)
+    long sightingCount;
+}
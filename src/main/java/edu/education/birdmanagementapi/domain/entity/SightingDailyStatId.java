@@ -0,0 +1,46 @@
+package edu.education.birdmanagementapi.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Clave del acumulado diario: día × ave × país × hábitat.
+ */
+@Embeddable
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SightingDailyStatId implements Serializable {
+
+    @Column(name = "stat_date", nullable = false)
+    LocalDate statDate;
+
+    @Column(name = "id_bird", nullable = false)
+    Long idBird;
+
+    @Column(name = "id_country", nullable = false)
+    Long idCountry;
+
+    @Column(name = "id_habitat", nullable = false)
+    Long idHabitat;
+
+    /**
+     * Obtiene la clave del bucket al que pertenece un avistamiento.
+     *
+     * @param sighting avistamiento
+     * @return clave del bucket
+     */
+    public static SightingDailyStatId of(Sighting sighting) {
+        return new SightingDailyStatId(sighting.getSightingDateTime().toLocalDate(), sighting.getBird().getIdBird(),
+                sighting.getCountry().getIdCountry(), sighting.getHabitat().getIdHabitat());
+    }
+}
@@ -53,6 +53,14 @@ public class User implements Serializable {
     @Column(name = "credential_no_expired")
     boolean credentialNoExpired = true;
 
+    /**
+     * Se incrementa cada vez que cambian los roles o los indicadores de estado de la cuenta; los JWT emitidos con
+     * una versión anterior dejan de aceptarse.
+     */
+    @Builder.Default
+    @Column(name = "security_version", nullable = false, columnDefinition = "bigint default 0 not null")
+    long securityVersion = 0;
+
     @Column(name = "created_date", nullable = false)
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
     LocalDateTime createdAt;
@@ -65,6 +73,48 @@ public class User implements Serializable {
     @JoinTable(name = "users_roles", joinColumns = @JoinColumn(name = "id_user"), inverseJoinColumns = @JoinColumn(name = "id_role"))
     Set<Role> roles = new HashSet<>();
 
+    public void setEnabled(boolean enabled) {
+        if (this.isEnabled != enabled) {
+            this.isEnabled = enabled;
+            bumpSecurityVersion();
+        }
+    }
+
+    public void setAccountNoExpired(boolean accountNoExpired) {
+        if (this.accountNoExpired != accountNoExpired) {
+            this.accountNoExpired = accountNoExpired;
+            bumpSecurityVersion();
+        }
+    }
+
+    public void setAccountNoLocked(boolean accountNoLocked) {
+        if (this.accountNoLocked != accountNoLocked) {
+            this.accountNoLocked = accountNoLocked;
+            bumpSecurityVersion();
+        }
+    }
+
+    public void setCredentialNoExpired(boolean credentialNoExpired) {
+        if (this.credentialNoExpired != credentialNoExpired) {
+            this.credentialNoExpired = credentialNoExpired;
+            bumpSecurityVersion();
+        }
+    }
+
+    public void setRoles(Set<Role> roles) {
+        this.roles = roles;
+        bumpSecurityVersion();
+    }
+
+    /**
+     * Invalida los tokens emitidos hasta ahora. Los setters de roles y estado lo llaman por sí solos; los cambios de
+     * permisos de un rol incrementan la versión de todos sus usuarios con
+     * {@link edu.education.birdmanagementapi.repository.UserRepository#bumpSecurityVersionByRole(Long)}.
+     */
+    public void bumpSecurityVersion() {
+        this.securityVersion++;
+    }
+
     @PrePersist
     private void beforePersisting() {
         this.createdAt = LocalDateTime.now();
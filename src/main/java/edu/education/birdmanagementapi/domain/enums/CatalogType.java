@@ -0,0 +1,13 @@
+package edu.education.birdmanagementapi.domain.enums;
+
+/**
+ * Catálogos de datos de referencia cuyos cambios se notifican con eventos.
+ */
+public enum CatalogType {
+    COUNTRY,
+    FAMILY,
+    BIRD,
+    HABITAT,
+    USER,
+    ROLE;
+}
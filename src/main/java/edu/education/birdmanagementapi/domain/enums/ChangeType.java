@@ -0,0 +1,10 @@
+package edu.education.birdmanagementapi.domain.enums;
+
+/**
+ * Tipo de cambio publicado en los eventos de dominio.
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED;
+}
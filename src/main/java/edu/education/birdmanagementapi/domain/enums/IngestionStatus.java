@@ -0,0 +1,11 @@
+package edu.education.birdmanagementapi.domain.enums;
+
+/**
+ * Estado de un avistamiento recibido por la ingesta asíncrona.
+ */
+public enum IngestionStatus {
+    QUEUED,
+    CREATED,
+    REJECTED,
+    FAILED;
+}
@@ -0,0 +1,18 @@
+package edu.education.birdmanagementapi.domain.event;
+
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+
+/**
+ * Evento publicado por los servicios de catálogo (familias, aves, hábitats) tras crear, actualizar o eliminar
+ * un registro. Las cachés de datos de referencia lo procesan después del commit de la transacción.
+ *
+ * @param catalogType catálogo modificado
+ * @param changeType  tipo de cambio
+ * @param id          identificador del registro
+ */
+public record CatalogChangedEvent(
+        CatalogType catalogType,
+        ChangeType changeType,
+        Long id) {
+}
@@ -0,0 +1,25 @@
+package edu.education.birdmanagementapi.domain.event;
+
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+
+/**
+ * Evento publicado por el servicio de avistamientos tras crear, actualizar o eliminar un registro.
+ * Los oyentes (índices y cachés en memoria) lo procesan después del commit de la transacción.
+ *
+ * @param changeType tipo de cambio
+ * @param idSighting identificador del avistamiento
+ * @param idBird     identificador del ave asociada
+ * @param latitude   latitud vigente (o la eliminada)
+ * @param longitude  longitud vigente (o la eliminada)
+ * @param previousLatitude  latitud anterior a una actualización ({@code null} en otros casos)
+ * @param previousLongitude longitud anterior a una actualización ({@code null} en otros casos)
+ */
+public record SightingChangedEvent(
+        ChangeType changeType,
+        Long idSighting,
+        Long idBird,
+        Double latitude,
+        Double longitude,
+        Double previousLatitude,
+        Double previousLongitude) {
+}
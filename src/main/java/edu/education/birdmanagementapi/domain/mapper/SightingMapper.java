@@ -35,6 +35,29 @@ public class SightingMapper {
     }
 
 
+    /**
+     * Construye la respuesta con nombres ya conocidos, sin inicializar las asociaciones perezosas del avistamiento.
+     */
+    public SightingResponseDTO toSightingResponseDTO(Sighting sighting, String countryName, String birdName,
+                                                     String habitatName, String userName) {
+        if (sighting == null) {
+            return null;
+        }
+        return SightingResponseDTO.builder()
+                .idSighting(sighting.getIdSighting())
+                .latitude(sighting.getLatitude())
+                .longitude(sighting.getLongitude())
+                .sightingDateTime(sighting.getSightingDateTime())
+                .notes(sighting.getNotes())
+                .countryName(countryName)
+                .birdName(birdName)
+                .habitatName(habitatName)
+                .userName(userName)
+                .createdAt(sighting.getCreatedDate())
+                .build();
+    }
+
+
     public Sighting toSightingEntity(SightingRequestDTO sightingRequestDTO, Country country, Bird bird, Habitat habitat,
                                      User user) {
         if (sightingRequestDTO == null) {
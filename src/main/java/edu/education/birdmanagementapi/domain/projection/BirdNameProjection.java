@@ -0,0 +1,14 @@
+package edu.education.birdmanagementapi.domain.projection;
+
+/**
+ * Proyección mínima de un ave para los índices de nombres en memoria.
+ *
+ * @param idBird         identificador del ave
+ * @param commonName     nombre común
+ * @param scientificName nombre científico
+ */
+public record BirdNameProjection(
+        Long idBird,
+        String commonName,
+        String scientificName) {
+}
@@ -0,0 +1,24 @@
+package edu.education.birdmanagementapi.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila del resumen de avistamientos de un ave agrupado con {@code ROLLUP} por mes: una fila por mes y una fila
+ * total ({@code totalRow = 1}, {@code month} nulo) con los agregados de todo el historial.
+ */
+public interface BirdSightingSummaryRow {
+
+    LocalDateTime getMonth();
+
+    Integer getTotalRow();
+
+    Long getSightings();
+
+    LocalDateTime getFirstSighting();
+
+    LocalDateTime getLastSighting();
+
+    Long getCountries();
+
+    Long getObservers();
+}
@@ -0,0 +1,16 @@
+package edu.education.birdmanagementapi.domain.projection;
+
+/**
+ * Proyección mínima de un avistamiento para índices espaciales en memoria.
+ *
+ * @param idSighting identificador del avistamiento
+ * @param idBird     identificador del ave
+ * @param latitude   latitud en grados
+ * @param longitude  longitud en grados
+ */
+public record SightingPointProjection(
+        Long idSighting,
+        Long idBird,
+        Double latitude,
+        Double longitude) {
+}
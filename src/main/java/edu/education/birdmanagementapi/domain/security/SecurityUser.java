@@ -0,0 +1,26 @@
+package edu.education.birdmanagementapi.domain.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * {@link org.springframework.security.core.userdetails.UserDetails} de la aplicación: añade el ID del usuario y su
+ * versión de seguridad, que se incrusta en el JWT para saber si las autoridades del token siguen vigentes.
+ */
+@Getter
+public class SecurityUser extends User {
+
+    private final Long idUser;
+    private final long securityVersion;
+
+    public SecurityUser(Long idUser, long securityVersion, String username, String password, boolean enabled,
+                        boolean accountNonExpired, boolean credentialsNonExpired, boolean accountNonLocked,
+                        Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, enabled, accountNonExpired, credentialsNonExpired, accountNonLocked, authorities);
+        this.idUser = idUser;
+        this.securityVersion = securityVersion;
+    }
+}
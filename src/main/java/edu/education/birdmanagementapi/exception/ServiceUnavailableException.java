@@ -0,0 +1,14 @@
+package edu.education.birdmanagementapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Excepción para funcionalidades no disponibles temporalmente o deshabilitadas (503).
+ */
+public class ServiceUnavailableException extends ApiException{
+
+    public ServiceUnavailableException(String message) {
+
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE");
+    }
+}
@@ -0,0 +1,14 @@
+package edu.education.birdmanagementapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Excepción para solicitudes rechazadas por saturación (429).
+ */
+public class TooManyRequestsException extends ApiException{
+
+    public TooManyRequestsException(String message) {
+
+        super(message, HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_REQUESTS");
+    }
+}
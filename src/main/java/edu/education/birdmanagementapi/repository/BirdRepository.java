@@ -1,18 +1,98 @@
 package edu.education.birdmanagementapi.repository;
 
 import edu.education.birdmanagementapi.domain.entity.Bird;
+import edu.education.birdmanagementapi.domain.projection.BirdNameProjection;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface BirdRepository extends JpaRepository<Bird, Long> {
 
     /**
-     * Verifica si existe un ave con el mismo nombre común o científico.
+     * Verifica si existe un ave con el nombre común indicado (usa el índice único de {@code common_name}).
      *
      * @param commonName nombre común
+     * @return true si existe
+     */
+    boolean existsByCommonName(String commonName);
+
+    /**
+     * Verifica si existe un ave con el nombre científico indicado (usa el índice único de {@code scientific_name}).
+     *
      * @param scientificName nombre científico
      * @return true si existe
      */
-    boolean existsByCommonNameOrScientificName(String commonName, String scientificName);
+    boolean existsByScientificName(String scientificName);
+
+    /**
+     * Devuelve, de los nombres comunes indicados, los que ya están registrados (una sola consulta {@code IN}).
+     *
+     * @param commonNames nombres comunes a verificar
+     * @return nombres comunes existentes
+     */
+    @Query("SELECT b.commonName FROM Bird b WHERE b.commonName IN :names")
+    Set<String> findExistingCommonNames(@Param("names") Collection<String> commonNames);
+
+    /**
+     * Devuelve, de los nombres científicos indicados, los que ya están registrados (una sola consulta {@code IN}).
+     *
+     * @param scientificNames nombres científicos a verificar
+     * @return nombres científicos existentes
+     */
+    @Query("SELECT b.scientificName FROM Bird b WHERE b.scientificName IN :names")
+    Set<String> findExistingScientificNames(@Param("names") Collection<String> scientificNames);
+
+    /**
+     * Devuelve, de los IDs indicados, los que existen (una sola consulta {@code IN}).
+     *
+     * @param ids identificadores a verificar
+     * @return IDs de aves existentes
+     */
+    @Query("SELECT e.idBird FROM Bird e WHERE e.idBird IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene solo el nombre común del ave, sin cargar la entidad.
+     *
+     * @param id identificador
+     * @return nombre, o vacío si no existe
+     */
+    @Query("SELECT e.commonName FROM Bird e WHERE e.idBird = :id")
+    Optional<String> findNameById(@Param("id") Long id);
+
+    /**
+     * Obtiene los nombres de todas las aves para construir los índices en memoria.
+     *
+     * @return nombres de las aves
+     */
+    @Query("SELECT new edu.education.birdmanagementapi.domain.projection.BirdNameProjection(" +
+            "b.idBird, b.commonName, b.scientificName) FROM Bird b")
+    List<BirdNameProjection> findAllNames();
+
+    /**
+     * Obtiene los nombres de un ave.
+     *
+     * @param id identificador
+     * @return nombres, o vacío si no existe
+     */
+    @Query("SELECT new edu.education.birdmanagementapi.domain.projection.BirdNameProjection(" +
+            "b.idBird, b.commonName, b.scientificName) FROM Bird b WHERE b.idBird = :id")
+    Optional<BirdNameProjection> findNamesById(@Param("id") Long id);
+
+    /**
+     * Carga las aves indicadas junto con su familia y hábitats en una sola consulta.
+     *
+     * @param ids identificadores
+     * @return aves encontradas (sin orden garantizado)
+     */
+    @EntityGraph(attributePaths = {"family", "habitats"})
+    List<Bird> findAllByIdBirdIn(Collection<Long> ids);
 }
@@ -0,0 +1,39 @@
+package edu.education.birdmanagementapi.repository;
+
+import edu.education.birdmanagementapi.domain.entity.CatalogVersion;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, CatalogType> {
+
+    /**
+     * Versión actual del catálogo.
+     *
+     * @param catalogType catálogo
+     * @return versión, vacía si el catálogo nunca se modificó
+     */
+    @Query("SELECT v.version FROM CatalogVersion v WHERE v.catalogType = :catalogType")
+    Optional<Long> findVersion(@Param("catalogType") CatalogType catalogType);
+
+    /**
+     * Incrementa la versión del catálogo, creándola con {@code initial} si no existe, en una única sentencia
+     * atómica. Se une a la transacción en curso.
+     *
+     * @param catalogType nombre del catálogo
+     * @param initial     versión inicial
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO catalog_versions (catalog_type, version) VALUES (:catalogType, :initial) " +
+            "ON CONFLICT (catalog_type) DO UPDATE SET version = catalog_versions.version + 1",
+            nativeQuery = true)
+    void increment(@Param("catalogType") String catalogType, @Param("initial") long initial);
+}
@@ -2,9 +2,32 @@ package edu.education.birdmanagementapi.repository;
 
 import edu.education.birdmanagementapi.domain.entity.Country;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+
 @Repository
 public interface CountryRepository extends JpaRepository<Country, Long> {
 
+    /**
+     * Devuelve, de los IDs indicados, los que existen (una sola consulta {@code IN}).
+     *
+     * @param ids identificadores a verificar
+     * @return IDs de países existentes
+     */
+    @Query("SELECT e.idCountry FROM Country e WHERE e.idCountry IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene solo el nombre del país, sin cargar la entidad.
+     *
+     * @param id identificador
+     * @return nombre, o vacío si no existe
+     */
+    @Query("SELECT e.name FROM Country e WHERE e.idCountry = :id")
+    Optional<String> findNameById(@Param("id") Long id);
 }
@@ -2,9 +2,13 @@ package edu.education.birdmanagementapi.repository;
 
 import edu.education.birdmanagementapi.domain.entity.Habitat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface HabitatRepository extends JpaRepository<Habitat, Long> {
@@ -24,4 +28,22 @@ public interface HabitatRepository extends JpaRepository<Habitat, Long> {
      * @return true si existe
      */
     boolean existsByName(String name);
+
+    /**
+     * Devuelve, de los IDs indicados, los que existen (una sola consulta {@code IN}).
+     *
+     * @param ids identificadores a verificar
+     * @return IDs de hábitats existentes
+     */
+    @Query("SELECT e.idHabitat FROM Habitat e WHERE e.idHabitat IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene solo el nombre del hábitat, sin cargar la entidad.
+     *
+     * @param id identificador
+     * @return nombre, o vacío si no existe
+     */
+    @Query("SELECT e.name FROM Habitat e WHERE e.idHabitat = :id")
+    Optional<String> findNameById(@Param("id") Long id);
 }
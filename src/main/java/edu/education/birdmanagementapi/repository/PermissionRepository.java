@@ -0,0 +1,20 @@
+package edu.education.birdmanagementapi.repository;
+
+import edu.education.birdmanagementapi.domain.entity.Permission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PermissionRepository extends JpaRepository<Permission, Long> {
+
+    /**
+     * Busca los permisos cuyo nombre esté en la colección indicada.
+     *
+     * @param names nombres de permisos
+     * @return permisos existentes
+     */
+    List<Permission> findByNameIn(Collection<String> names);
+}
@@ -0,0 +1,42 @@
+package edu.education.birdmanagementapi.repository;
+
+import edu.education.birdmanagementapi.domain.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Tokens revocados que aún no han caducado.
+     *
+     * @param now instante actual
+     * @return tokens revocados vigentes
+     */
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    /**
+     * Tokens revocados después de {@code since} que aún no han caducado.
+     *
+     * @param since instante desde el que se buscan revocaciones
+     * @param now   instante actual
+     * @return tokens revocados vigentes
+     */
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+
+    /**
+     * Elimina los tokens revocados que ya caducaron.
+     *
+     * @param now instante actual
+     * @return filas eliminadas
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
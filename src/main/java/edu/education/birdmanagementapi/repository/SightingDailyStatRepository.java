@@ -0,0 +1,73 @@
+package edu.education.birdmanagementapi.repository;
+
+import edu.education.birdmanagementapi.domain.dto.response.DailySightingStatResponseDTO;
+import edu.education.birdmanagementapi.domain.entity.SightingDailyStat;
+import edu.education.birdmanagementapi.domain.entity.SightingDailyStatId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface SightingDailyStatRepository extends JpaRepository<SightingDailyStat, SightingDailyStatId> {
+
+    /**
+     * Suma {@code delta} al contador del bucket, creándolo si no existe, en una única sentencia atómica.
+     *
+     * @param statDate  día
+     * @param idBird    ave
+     * @param idCountry país
+     * @param idHabitat hábitat
+     * @param delta     incremento (negativo para restar)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sighting_daily_stats (stat_date, id_bird, id_country, id_habitat, sighting_count) " +
+            "VALUES (:statDate, :idBird, :idCountry, :idHabitat, :delta) " +
+            "ON CONFLICT (stat_date, id_bird, id_country, id_habitat) " +
+            "DO UPDATE SET sighting_count = sighting_daily_stats.sighting_count + EXCLUDED.sighting_count",
+            nativeQuery = true)
+    void addToBucket(@Param("statDate") LocalDate statDate, @Param("idBird") Long idBird,
+                     @Param("idCountry") Long idCountry, @Param("idHabitat") Long idHabitat,
+                     @Param("delta") long delta);
+
+    /**
+     * Elimina los buckets que quedaron sin avistamientos.
+     */
+    @Modifying
+    @Query("DELETE FROM SightingDailyStat d WHERE d.sightingCount <= 0")
+    void deleteEmptyBuckets();
+
+    /**
+     * Recalcula el acumulado completo a partir de la tabla de avistamientos (solo si está vacío).
+     *
+     * @return número de buckets creados
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sighting_daily_stats (stat_date, id_bird, id_country, id_habitat, sighting_count) " +
+            "SELECT CAST(s.sighting_date_time AS DATE), s.id_bird, s.id_country, s.id_habitat, COUNT(*) " +
+            "FROM sightings s " +
+            "WHERE NOT EXISTS (SELECT 1 FROM sighting_daily_stats) " +
+            "GROUP BY CAST(s.sighting_date_time AS DATE), s.id_bird, s.id_country, s.id_habitat",
+            nativeQuery = true)
+    int rebuildIfEmpty();
+
+    @Query("SELECT new edu.education.birdmanagementapi.domain.dto.response.DailySightingStatResponseDTO(" +
+            "d.id.statDate, b.idBird, b.commonName, c.idCountry, c.name, h.idHabitat, h.name, d.sightingCount) " +
+            "FROM SightingDailyStat d " +
+            "JOIN Bird b ON b.idBird = d.id.idBird " +
+            "JOIN Country c ON c.idCountry = d.id.idCountry " +
+            "JOIN Habitat h ON h.idHabitat = d.id.idHabitat " +
+            "WHERE d.id.statDate BETWEEN :from AND :to " +
+            "AND (:idBird IS NULL OR d.id.idBird = :idBird) " +
+            "AND (:idCountry IS NULL OR d.id.idCountry = :idCountry) " +
+            "AND (:idHabitat IS NULL OR d.id.idHabitat = :idHabitat) " +
+            "ORDER BY d.id.statDate, b.idBird, c.idCountry, h.idHabitat")
+    List<DailySightingStatResponseDTO> findDailyStats(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                                      @Param("idBird") Long idBird,
+                                                      @Param("idCountry") Long idCountry,
+                                                      @Param("idHabitat") Long idHabitat);
+}
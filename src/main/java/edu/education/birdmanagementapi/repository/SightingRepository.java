@@ -1,23 +1,128 @@
 package edu.education.birdmanagementapi.repository;
 
+import edu.education.birdmanagementapi.domain.dto.response.SightingResponseDTO;
 import edu.education.birdmanagementapi.domain.entity.Sighting;
+import edu.education.birdmanagementapi.domain.projection.BirdSightingSummaryRow;
+import edu.education.birdmanagementapi.domain.projection.SightingPointProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface SightingRepository extends JpaRepository<Sighting, Long> {
+public interface SightingRepository extends JpaRepository<Sighting, Long>, SightingRepositoryCustom {
 
+    /**
+     * Proyección de lectura: une las cuatro asociaciones en una sola sentencia y selecciona solo los nombres
+     * que expone {@link SightingResponseDTO}, evitando la carga perezosa (N+1) de país, ave, hábitat y usuario.
+     */
+    String SIGHTING_RESPONSE_SELECT = "SELECT new edu.education.birdmanagementapi.domain.dto.response.SightingResponseDTO(" +
+            "s.idSighting, s.latitude, s.longitude, s.sightingDateTime, s.notes, c.name, b.commonName, h.name, " +
+            "u.name, s.createdDate) " +
+            "FROM Sighting s JOIN s.country c JOIN s.bird b JOIN s.habitat h JOIN s.user u ";
 
-    List<Sighting> findByBirdIdBird(Long IdBird);
+    /**
+     * Obtiene un avistamiento ya proyectado a su DTO de respuesta.
+     *
+     * @param idSighting identificador del avistamiento
+     * @return resultado opcional
+     */
+    @Query(SIGHTING_RESPONSE_SELECT + "WHERE s.idSighting = :idSighting")
+    Optional<SightingResponseDTO> findResponseById(@Param("idSighting") Long idSighting);
 
-    List<Sighting> findByUserIdUser(Long IdUser);
+    /**
+     * Página keyset de avistamientos con ID mayor al cursor.
+     *
+     * @param afterId último ID devuelto en la página anterior (0 para la primera)
+     * @param limit   número máximo de filas
+     * @return avistamientos proyectados, ordenados por ID
+     */
+    @Query(SIGHTING_RESPONSE_SELECT + "WHERE s.idSighting > :afterId ORDER BY s.idSighting")
+    List<SightingResponseDTO> findPageAfter(@Param("afterId") Long afterId, Limit limit);
 
-    List<Sighting> findByCountryIdCountry(Long IdCountry);
+    @Query(SIGHTING_RESPONSE_SELECT + "WHERE b.idBird = :idBird AND s.idSighting > :afterId ORDER BY s.idSighting")
+    List<SightingResponseDTO> findPageByBirdAfter(@Param("idBird") Long idBird, @Param("afterId") Long afterId,
+                                                  Limit limit);
 
-    List<Sighting> findByHabitatIdHabitat(Long idHabitat);
+    @Query(SIGHTING_RESPONSE_SELECT + "WHERE u.idUser = :idUser AND s.idSighting > :afterId ORDER BY s.idSighting")
+    List<SightingResponseDTO> findPageByUserAfter(@Param("idUser") Long idUser, @Param("afterId") Long afterId,
+                                                  Limit limit);
 
-    List<Sighting> findBySightingDateTimeBetween(LocalDateTime from, LocalDateTime to);
+    @Query(SIGHTING_RESPONSE_SELECT + "WHERE c.idCountry = :idCountry AND s.idSighting > :afterId " +
+            "ORDER BY s.idSighting")
+    List<SightingResponseDTO> findPageByCountryAfter(@Param("idCountry") Long idCountry,
+                                                     @Param("afterId") Long afterId, Limit limit);
+
+    @Query(SIGHTING_RESPONSE_SELECT + "WHERE h.idHabitat = :idHabitat AND s.idSighting > :afterId " +
+            "ORDER BY s.idSighting")
+    List<SightingResponseDTO> findPageByHabitatAfter(@Param("idHabitat") Long idHabitat,
+                                                     @Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Página keyset de avistamientos dentro de un rango de fechas, ordenada por (fecha/hora, ID).
+     *
+     * @param afterDateTime fecha/hora del último elemento devuelto (o el inicio del rango)
+     * @param afterId       ID del último elemento devuelto (o {@link Long#MIN_VALUE} para la primera página)
+     * @param to            fin del rango (inclusivo)
+     * @param limit         número máximo de filas
+     * @return avistamientos proyectados, ordenados por fecha/hora e ID
+     */
+    @Query(SIGHTING_RESPONSE_SELECT + "WHERE s.sightingDateTime <= :to AND (s.sightingDateTime > :afterDateTime " +
+            "OR (s.sightingDateTime = :afterDateTime AND s.idSighting > :afterId)) " +
+            "ORDER BY s.sightingDateTime, s.idSighting")
+    List<SightingResponseDTO> findPageByDateRangeAfter(@Param("afterDateTime") LocalDateTime afterDateTime,
+                                                       @Param("afterId") Long afterId,
+                                                       @Param("to") LocalDateTime to,
+                                                       Limit limit);
+
+    /**
+     * Avistamientos con coordenadas pero sin geohash calculado (registros previos a la columna).
+     *
+     * @param limit número máximo de filas
+     * @return avistamientos pendientes de geohash
+     */
+    List<Sighting> findByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull(Limit limit);
+
+    /**
+     * Recorre en streaming las coordenadas de todos los avistamientos georreferenciados.
+     * Debe consumirse dentro de una transacción y cerrarse al terminar.
+     *
+     * @return stream de puntos
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new edu.education.birdmanagementapi.domain.projection.SightingPointProjection(" +
+            "s.idSighting, s.bird.idBird, s.latitude, s.longitude) " +
+            "FROM Sighting s WHERE s.latitude IS NOT NULL AND s.longitude IS NOT NULL")
+    Stream<SightingPointProjection> streamAllPoints();
+
+    /**
+     * Resume los avistamientos de un ave en una sola consulta agregada: {@code ROLLUP} devuelve una fila por mes
+     * y una fila total con el número de avistamientos, la primera y la última fecha, y los países y observadores
+     * distintos. Usa el índice {@code idx_sightings_bird_id}.
+     *
+     * @param idBird identificador del ave
+     * @return filas mensuales ordenadas por mes, seguidas de la fila total
+     */
+    @Query(value = "SELECT date_trunc('month', s.sighting_date_time) AS \"month\", " +
+            "GROUPING(date_trunc('month', s.sighting_date_time)) AS \"totalRow\", " +
+            "COUNT(*) AS \"sightings\", " +
+            "MIN(s.sighting_date_time) AS \"firstSighting\", " +
+            "MAX(s.sighting_date_time) AS \"lastSighting\", " +
+            "COUNT(DISTINCT s.id_country) AS \"countries\", " +
+            "COUNT(DISTINCT s.id_user) AS \"observers\" " +
+            "FROM sightings s " +
+            "WHERE s.id_bird = :idBird " +
+            "GROUP BY ROLLUP (date_trunc('month', s.sighting_date_time)) " +
+            "ORDER BY 2, 1",
+            nativeQuery = true)
+    List<BirdSightingSummaryRow> summarizeByBird(@Param("idBird") Long idBird);
 }
@@ -0,0 +1,62 @@
+package edu.education.birdmanagementapi.repository;
+
+import edu.education.birdmanagementapi.domain.dto.response.HeatmapCellDTO;
+import edu.education.birdmanagementapi.domain.dto.response.SightingResponseDTO;
+import edu.education.birdmanagementapi.util.GeoHashUtils.GeoHashRange;
+import edu.education.birdmanagementapi.util.TileUtils.TileBounds;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de avistamientos que requieren construir el JPQL dinámicamente.
+ */
+public interface SightingRepositoryCustom {
+
+    /**
+     * Busca avistamientos dentro de una caja geográfica mediante escaneos de rango sobre el geohash
+     * y un filtro exacto por latitud/longitud.
+     *
+     * @param minLat latitud mínima
+     * @param minLon longitud mínima
+     * @param maxLat latitud máxima
+     * @param maxLon longitud máxima
+     * @param ranges  rangos de geohash que cubren la caja
+     * @param afterId solo se devuelven IDs mayores (keyset; 0 para la primera página)
+     * @param limit   número máximo de filas
+     * @return avistamientos proyectados, ordenados por ID
+     */
+    List<SightingResponseDTO> findWithinBoundingBox(double minLat, double minLon, double maxLat, double maxLon,
+                                                    List<GeoHashRange> ranges, long afterId, int limit);
+
+    /**
+     * Cuenta los avistamientos de una tesela agrupados en una rejilla de {@code gridSize × gridSize} celdas
+     * (columnas lineales en longitud, filas lineales en la ordenada Mercator).
+     * Las celdas en el borde este o sur pueden devolver el índice {@code gridSize}; el llamador las acota.
+     *
+     * @param bounds   límites de la tesela
+     * @param gridSize celdas por lado
+     * @param ranges   rangos de geohash que cubren la tesela
+     * @param idBird   ave (opcional)
+     * @param from     fecha/hora mínima (opcional)
+     * @param to       fecha/hora máxima (opcional)
+     * @return celdas con al menos un avistamiento
+     */
+    List<HeatmapCellDTO> aggregateHeatmap(TileBounds bounds, int gridSize, List<GeoHashRange> ranges, Long idBird,
+                                          LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Recorre en un cursor de solo avance los avistamientos que cumplen los filtros indicados.
+     * Los filtros nulos se omiten. El stream debe consumirse dentro de una transacción y cerrarse.
+     *
+     * @param idBird    ave (opcional)
+     * @param idCountry país (opcional)
+     * @param idHabitat hábitat (opcional)
+     * @param from      fecha/hora mínima (opcional)
+     * @param to        fecha/hora máxima (opcional)
+     * @return avistamientos proyectados, ordenados por ID
+     */
+    Stream<SightingResponseDTO> streamForExport(Long idBird, Long idCountry, Long idHabitat,
+                                                LocalDateTime from, LocalDateTime to);
+}
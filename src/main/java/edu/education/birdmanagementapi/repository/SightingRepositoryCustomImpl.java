@@ -0,0 +1,174 @@
+package edu.education.birdmanagementapi.repository;
+
+import edu.education.birdmanagementapi.domain.dto.response.HeatmapCellDTO;
+import edu.education.birdmanagementapi.domain.dto.response.SightingResponseDTO;
+import edu.education.birdmanagementapi.util.GeoHashUtils.GeoHashRange;
+import edu.education.birdmanagementapi.util.TileUtils;
+import edu.education.birdmanagementapi.util.TileUtils.TileBounds;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Implementación de {@link SightingRepositoryCustom} basada en JPQL dinámico.
+ */
+public class SightingRepositoryCustomImpl implements SightingRepositoryCustom {
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<SightingResponseDTO> findWithinBoundingBox(double minLat, double minLon, double maxLat, double maxLon,
+                                                           List<GeoHashRange> ranges, long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(SightingRepository.SIGHTING_RESPONSE_SELECT).append("WHERE ");
+        appendGeohashRanges(jpql, ranges);
+        jpql.append(" AND s.latitude BETWEEN :minLat AND :maxLat AND s.longitude BETWEEN :minLon AND :maxLon ")
+                .append("AND s.idSighting > :afterId ORDER BY s.idSighting");
+
+        TypedQuery<SightingResponseDTO> query = entityManager.createQuery(jpql.toString(), SightingResponseDTO.class)
+                .setParameter("minLat", minLat)
+                .setParameter("maxLat", maxLat)
+                .setParameter("minLon", minLon)
+                .setParameter("maxLon", maxLon)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit);
+        bindGeohashRanges(query, ranges);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<HeatmapCellDTO> aggregateHeatmap(TileBounds bounds, int gridSize, List<GeoHashRange> ranges,
+                                                 Long idBird, LocalDateTime from, LocalDateTime to) {
+        // Los factores se escriben como literales para que PostgreSQL reconozca la misma expresión en el SELECT
+        // y en el GROUP BY (con parámetros serían marcadores distintos).
+        double maxMercatorY = TileUtils.mercatorY(bounds.maxLat());
+        double minMercatorY = TileUtils.mercatorY(bounds.minLat());
+        String col = "FLOOR((s.longitude + " + literal(-bounds.minLon()) + ") * "
+                + literal(gridSize / (bounds.maxLon() - bounds.minLon())) + ")";
+        String row = "FLOOR((" + literal(maxMercatorY) + " - LN(TAN(" + literal(Math.PI / 4) + " + s.latitude * "
+                + literal(Math.PI / 360) + "))) * " + literal(gridSize / (maxMercatorY - minMercatorY)) + ")";
+
+        StringBuilder jpql = new StringBuilder("SELECT ").append(col).append(", ").append(row)
+                .append(", COUNT(s) FROM Sighting s WHERE ");
+        appendGeohashRanges(jpql, ranges);
+        jpql.append(" AND s.latitude BETWEEN :minLat AND :maxLat AND s.longitude BETWEEN :minLon AND :maxLon");
+        if (idBird != null) {
+            jpql.append(" AND s.bird.idBird = :idBird");
+        }
+        if (from != null) {
+            jpql.append(" AND s.sightingDateTime >= :from");
+        }
+        if (to != null) {
+            jpql.append(" AND s.sightingDateTime <= :to");
+        }
+        jpql.append(" GROUP BY ").append(col).append(", ").append(row);
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class)
+                .setParameter("minLat", bounds.minLat())
+                .setParameter("maxLat", bounds.maxLat())
+                .setParameter("minLon", bounds.minLon())
+                .setParameter("maxLon", bounds.maxLon());
+        bindGeohashRanges(query, ranges);
+        if (idBird != null) {
+            query.setParameter("idBird", idBird);
+        }
+        if (from != null) {
+            query.setParameter("from", from);
+        }
+        if (to != null) {
+            query.setParameter("to", to);
+        }
+
+        List<HeatmapCellDTO> cells = new ArrayList<>();
+        for (Object[] tuple : query.getResultList()) {
+            cells.add(new HeatmapCellDTO(((Number) tuple[0]).intValue(), ((Number) tuple[1]).intValue(),
+                    ((Number) tuple[2]).longValue()));
+        }
+        return cells;
+    }
+
+    @Override
+    public Stream<SightingResponseDTO> streamForExport(Long idBird, Long idCountry, Long idHabitat,
+                                                       LocalDateTime from, LocalDateTime to) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        List<String> predicates = new ArrayList<>();
+        if (idBird != null) {
+            predicates.add("b.idBird = :idBird");
+            parameters.put("idBird", idBird);
+        }
+        if (idCountry != null) {
+            predicates.add("c.idCountry = :idCountry");
+            parameters.put("idCountry", idCountry);
+        }
+        if (idHabitat != null) {
+            predicates.add("h.idHabitat = :idHabitat");
+            parameters.put("idHabitat", idHabitat);
+        }
+        if (from != null) {
+            predicates.add("s.sightingDateTime >= :from");
+            parameters.put("from", from);
+        }
+        if (to != null) {
+            predicates.add("s.sightingDateTime <= :to");
+            parameters.put("to", to);
+        }
+
+        StringBuilder jpql = new StringBuilder(SightingRepository.SIGHTING_RESPONSE_SELECT);
+        if (!predicates.isEmpty()) {
+            jpql.append("WHERE ").append(String.join(" AND ", predicates)).append(' ');
+        }
+        jpql.append("ORDER BY s.idSighting");
+
+        TypedQuery<SightingResponseDTO> query = entityManager.createQuery(jpql.toString(), SightingResponseDTO.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        parameters.forEach(query::setParameter);
+        return query.getResultStream();
+    }
+
+    /**
+     * Añade los rangos de geohash como una disyunción entre paréntesis.
+     */
+    private static void appendGeohashRanges(StringBuilder jpql, List<GeoHashRange> ranges) {
+        jpql.append('(');
+        for (int i = 0; i < ranges.size(); i++) {
+            if (i > 0) {
+                jpql.append(" OR ");
+            }
+            jpql.append("(s.geohash >= :start").append(i);
+            if (ranges.get(i).end() != null) {
+                jpql.append(" AND s.geohash < :end").append(i);
+            }
+            jpql.append(')');
+        }
+        jpql.append(')');
+    }
+
+    private static void bindGeohashRanges(TypedQuery<?> query, List<GeoHashRange> ranges) {
+        for (int i = 0; i < ranges.size(); i++) {
+            query.setParameter("start" + i, ranges.get(i).start());
+            if (ranges.get(i).end() != null) {
+                query.setParameter("end" + i, ranges.get(i).end());
+            }
+        }
+    }
+
+    /**
+     * Literal numérico sin notación científica. No debe ir precedido de una resta: Hibernate elimina los paréntesis
+     * y un literal negativo quedaría como comentario SQL ({@code --}).
+     */
+    private static String literal(double value) {
+        return BigDecimal.valueOf(value).toPlainString();
+    }
+}
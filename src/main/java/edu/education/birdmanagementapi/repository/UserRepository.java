@@ -2,9 +2,14 @@ package edu.education.birdmanagementapi.repository;
 
 import edu.education.birdmanagementapi.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -17,4 +22,33 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * Devuelve, de los IDs indicados, los que existen (una sola consulta {@code IN}).
+     *
+     * @param ids identificadores a verificar
+     * @return IDs de usuarios existentes
+     */
+    @Query("SELECT e.idUser FROM User e WHERE e.idUser IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene solo el nombre del usuario, sin cargar la entidad.
+     *
+     * @param id identificador
+     * @return nombre, o vacío si no existe
+     */
+    @Query("SELECT e.name FROM User e WHERE e.idUser = :id")
+    Optional<String> findNameById(@Param("id") Long id);
+
+    /**
+     * Incrementa con una sola sentencia la versión de seguridad de todos los usuarios que tienen el rol indicado,
+     * invalidando los tokens que emitieron con los permisos anteriores del rol.
+     *
+     * @param idRole identificador del rol
+     * @return número de usuarios actualizados
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.securityVersion = u.securityVersion + 1 "
+            + "WHERE u.idUser IN (SELECT m.idUser FROM User m JOIN m.roles r WHERE r.idRole = :idRole)")
+    int bumpSecurityVersionByRole(@Param("idRole") Long idRole);
 }
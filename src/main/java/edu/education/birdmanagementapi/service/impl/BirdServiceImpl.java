@@ -1,26 +1,62 @@
 package edu.education.birdmanagementapi.service.impl;
 
+import edu.education.birdmanagementapi.domain.dto.request.BirdBatchRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.request.BirdRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchItemResultDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchResponseDTO;
 import edu.education.birdmanagementapi.domain.dto.response.BirdResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BirdSuggestionResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BirdSummaryResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.MonthlySightingCountDTO;
 import edu.education.birdmanagementapi.domain.entity.Bird;
 import edu.education.birdmanagementapi.domain.entity.Family;
 import edu.education.birdmanagementapi.domain.entity.Habitat;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
 import edu.education.birdmanagementapi.domain.mapper.BirdMapper;
+import edu.education.birdmanagementapi.domain.projection.BirdSightingSummaryRow;
+import edu.education.birdmanagementapi.exception.BadRequestException;
 import edu.education.birdmanagementapi.exception.ConflictException;
 import edu.education.birdmanagementapi.exception.ResourceNotFoundException;
 import edu.education.birdmanagementapi.repository.BirdRepository;
 import edu.education.birdmanagementapi.repository.FamilyRepository;
 import edu.education.birdmanagementapi.repository.HabitatRepository;
+import edu.education.birdmanagementapi.repository.SightingRepository;
+import edu.education.birdmanagementapi.service.index.BirdNameIndex;
+import edu.education.birdmanagementapi.service.index.CatalogResponseCache.CachedBird;
+import edu.education.birdmanagementapi.service.index.CatalogResponseCache;
 import edu.education.birdmanagementapi.service.interfaces.IBirdService;
+import edu.education.birdmanagementapi.util.BloomFilter;
+import edu.education.birdmanagementapi.util.TextNormalizer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -30,7 +66,68 @@ public class BirdServiceImpl implements IBirdService {
     private final BirdRepository birdRepository;
     private final FamilyRepository familyRepository;
     private final HabitatRepository habitatRepository;
+    private final SightingRepository sightingRepository;
     private final BirdMapper birdMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BirdNameIndex birdNameIndex;
+    private final CatalogResponseCache catalogResponseCache;
+    private final PlatformTransactionManager transactionManager;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong filterAbsent = new AtomicLong();
+    private final AtomicLong filterFalsePositives = new AtomicLong();
+    private volatile BloomFilter nameFilter;
+    private volatile boolean nameFilterReady;
+
+    @Value("${birds.name-filter.expected-insertions:100000}")
+    private long nameFilterExpectedInsertions;
+
+    @Value("${birds.name-filter.false-positive-rate:0.01}")
+    private double nameFilterFalsePositiveRate;
+
+    @Value("${birds.search.max-fuzzy:2}")
+    private int maxFuzzyDistance;
+
+    @Value("${birds.suggest.default-limit:10}")
+    private int defaultSuggestLimit;
+
+    @Value("${birds.suggest.max-limit:50}")
+    private int maxSuggestLimit;
+
+    /**
+     * Crea el filtro de Bloom de nombres y registra sus métricas: la tasa de falsos positivos teórica y la observada
+     * (sondeos a la base de datos que no encontraron duplicado respecto a todos los nombres nuevos).
+     */
+    @PostConstruct
+    void initNameFilter() {
+        nameFilter = new BloomFilter(nameFilterExpectedInsertions, nameFilterFalsePositiveRate);
+        Gauge.builder("birds.name.filter.expected.fpp", this, service -> service.nameFilter.expectedFalsePositiveRate())
+                .description("Tasa de falsos positivos esperada del filtro de nombres de aves")
+                .register(meterRegistry);
+        Gauge.builder("birds.name.filter.observed.fpp", this, BirdServiceImpl::observedFalsePositiveRate)
+                .description("Tasa de falsos positivos observada del filtro de nombres de aves")
+                .register(meterRegistry);
+        Gauge.builder("birds.name.filter.insertions", this, service -> service.nameFilter.insertions())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Carga en el filtro de Bloom los nombres normalizados de todas las aves existentes. Se ejecuta fuera de una
+     * transacción de solo lectura, así que lee del primario. Hasta que termina, toda creación consulta la base de
+     * datos.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadNameFilter() {
+        BloomFilter filter = new BloomFilter(nameFilterExpectedInsertions, nameFilterFalsePositiveRate);
+        birdRepository.findAllNames().forEach(bird -> {
+            filter.put(TextNormalizer.normalize(bird.commonName()));
+            filter.put(TextNormalizer.normalize(bird.scientificName()));
+        });
+        nameFilter = filter;
+        nameFilterReady = true;
+        log.info("Filtro de nombres de aves cargado: {} claves en {} bits", filter.insertions(), filter.bitCount());
+    }
 
 
     /**
@@ -39,27 +136,147 @@ public class BirdServiceImpl implements IBirdService {
     @Override
     @Transactional
     public BirdResponseDTO createBird(BirdRequestDTO birdRequestDTO) {
-        boolean existsBird = birdRepository.existsByCommonNameOrScientificName(birdRequestDTO.commonName(), birdRequestDTO.scientificName());
-
-        if (existsBird) {
+        if (nameMayExist(birdRequestDTO.commonName(), birdRequestDTO.scientificName())) {
             log.warn("Intento de creación duplicada: {}", birdRequestDTO.scientificName());
             throw new ConflictException("Ya existe un ave con el mismo nombre común o científico.");
         }
 
         Family family = familyRepository.findById(birdRequestDTO.idFamily()).orElseThrow(() -> new ResourceNotFoundException("No se encuentra la familia con ID: " + birdRequestDTO.idFamily()));
 
-        Set<Habitat> habitats = new HashSet<>();
-        if (birdRequestDTO.idHabitats() != null && !birdRequestDTO.idHabitats().isEmpty()) {
-            habitats = birdRequestDTO.idHabitats().stream().map(id -> habitatRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("No se encuentra el hábitat con ID: " + id))).collect(Collectors.toSet());
-        }
+        Set<Habitat> habitats = resolveHabitats(birdRequestDTO.idHabitats());
 
         Bird newBird = birdMapper.toBirdEntity(birdRequestDTO, family, habitats);
-        Bird createdBird = birdRepository.save(newBird);
+        Bird createdBird = saveUnique(newBird);
+        rememberNames(createdBird);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.BIRD, ChangeType.CREATED,
+                createdBird.getIdBird()));
 
         log.info("Ave creada con éxito: {}", createdBird.getScientificName());
         return birdMapper.toBirdResponseDTO(createdBird);
     }
 
+    /**
+     * Registra un lote de aves. Familias y hábitats se resuelven con un {@code findAllById} cada uno para todo el
+     * lote y los nombres duplicados con una consulta {@code IN} por columna (solo para los nombres que el filtro
+     * de Bloom no descarta). Las aves válidas se insertan con batching JDBC, incluidas sus filas de
+     * {@code birds_habitats}, en una sola transacción.
+     * <p>
+     * Si otra petición registra el mismo nombre entre la comprobación y el insert, la restricción única hace fallar
+     * esa transacción completa; entonces las aves válidas se reintentan una a una, cada una en su propia
+     * transacción, y solo las que chocan se rechazan con {@code CONFLICT}.
+     */
+    @Override
+    public BatchResponseDTO createBirdsBatch(BirdBatchRequestDTO batchRequestDTO) {
+        List<BirdRequestDTO> items = batchRequestDTO.birds();
+
+        Map<Long, Family> families = new HashMap<>();
+        familyRepository.findAllById(collectIds(items.stream().map(BirdRequestDTO::idFamily)))
+                .forEach(family -> families.put(family.getIdFamily(), family));
+        Map<Long, Habitat> habitats = new HashMap<>();
+        habitatRepository.findAllById(collectIds(items.stream()
+                        .filter(item -> item.idHabitats() != null)
+                        .flatMap(item -> item.idHabitats().stream())))
+                .forEach(habitat -> habitats.put(habitat.getIdHabitat(), habitat));
+        Set<String> takenCommonNames = new HashSet<>();
+        Set<String> takenScientificNames = new HashSet<>();
+        findTakenNames(items, takenCommonNames, takenScientificNames);
+
+        BatchItemResultDTO[] results = new BatchItemResultDTO[items.size()];
+        List<PendingBird> accepted = new ArrayList<>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            BirdRequestDTO item = items.get(i);
+            if (takenCommonNames.contains(item.commonName()) || takenScientificNames.contains(item.scientificName())) {
+                results[i] = rejected(i, "CONFLICT", "Ya existe un ave con el mismo nombre común o científico.");
+                continue;
+            }
+            Family family = item.idFamily() == null ? null : families.get(item.idFamily());
+            if (family == null) {
+                results[i] = rejected(i, "RESOURCE_NOT_FOUND", "No se encuentra la familia con ID: " + item.idFamily());
+                continue;
+            }
+            Set<Habitat> birdHabitats = new HashSet<>();
+            Long missingHabitat = null;
+            for (Long idHabitat : item.idHabitats() == null ? Set.<Long>of() : item.idHabitats()) {
+                Habitat habitat = habitats.get(idHabitat);
+                if (habitat == null) {
+                    missingHabitat = idHabitat;
+                    break;
+                }
+                birdHabitats.add(habitat);
+            }
+            if (missingHabitat != null) {
+                results[i] = rejected(i, "RESOURCE_NOT_FOUND", "No se encuentra el hábitat con ID: " + missingHabitat);
+                continue;
+            }
+            takenCommonNames.add(item.commonName());
+            takenScientificNames.add(item.scientificName());
+            accepted.add(new PendingBird(i, item, family, birdHabitats));
+        }
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int created = 0;
+        try {
+            List<Bird> saved = transaction.execute(status -> insertBirds(accepted));
+            for (int i = 0; i < saved.size(); i++) {
+                results[accepted.get(i).index()] = created(accepted.get(i).index(), saved.get(i));
+            }
+            created = saved.size();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Nombre de ave duplicado detectado por la base de datos durante un lote; se reintenta ave por ave.");
+            for (PendingBird pending : accepted) {
+                try {
+                    Bird bird = transaction.execute(status -> insertBirds(List.of(pending)).get(0));
+                    results[pending.index()] = created(pending.index(), bird);
+                    created++;
+                } catch (DataIntegrityViolationException conflict) {
+                    log.warn("Nombre de ave duplicado detectado por la base de datos: {}",
+                            pending.item().scientificName());
+                    results[pending.index()] = rejected(pending.index(), "CONFLICT",
+                            "Ya existe un ave con el mismo nombre común o científico.");
+                }
+            }
+        }
+
+        log.info("Lote de aves procesado: {} recibidas, {} creadas.", items.size(), created);
+        return BatchResponseDTO.builder()
+                .received(items.size())
+                .created(created)
+                .rejected(items.size() - created)
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * Ave del lote que superó las validaciones, con su familia y hábitats ya resueltos.
+     */
+    private record PendingBird(int index, BirdRequestDTO item, Family family, Set<Habitat> habitats) {
+    }
+
+    /**
+     * Inserta las aves en la transacción actual y publica sus eventos, que se entregan tras el commit.
+     * Las entidades se crean en cada llamada para que un reintento no reutilice IDs de una transacción revertida.
+     */
+    private List<Bird> insertBirds(List<PendingBird> pending) {
+        List<Bird> newBirds = new ArrayList<>(pending.size());
+        pending.forEach(bird -> newBirds.add(birdMapper.toBirdEntity(bird.item(), bird.family(), bird.habitats())));
+        List<Bird> saved = birdRepository.saveAll(newBirds);
+        birdRepository.flush();
+        saved.forEach(bird -> eventPublisher.publishEvent(
+                new CatalogChangedEvent(CatalogType.BIRD, ChangeType.CREATED, bird.getIdBird())));
+        return saved;
+    }
+
+    private BatchItemResultDTO created(int index, Bird bird) {
+        rememberNames(bird);
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .success(true)
+                .id(bird.getIdBird())
+                .message("Ave creada con éxito.")
+                .build();
+    }
+
     /**
      * Actualiza un ave existente.
      */
@@ -77,24 +294,58 @@ public class BirdServiceImpl implements IBirdService {
         existingBird.setFamily(family);
 
         if (birdRequestDTO.idHabitats() != null) {
-            Set<Habitat> habitats = birdRequestDTO.idHabitats().stream().map(idHabitat -> habitatRepository.findById(idHabitat).orElseThrow(() -> new ResourceNotFoundException("No se encuentra el hábitat con ID: " + idHabitat))).collect(Collectors.toSet());
-            existingBird.setHabitats(habitats);
+            existingBird.setHabitats(resolveHabitats(birdRequestDTO.idHabitats()));
         }
 
-        Bird updatedBird = birdRepository.save(existingBird);
+        Bird updatedBird = saveUnique(existingBird);
+        rememberNames(updatedBird);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.BIRD, ChangeType.UPDATED, id));
         log.info("Ave actualizada con ID: {}", id);
 
         return birdMapper.toBirdResponseDTO(updatedBird);
     }
 
     /**
-     * Busca un ave por su ID.
+     * Busca un ave por su ID desde {@link CatalogResponseCache}; un fallo carga familia y hábitats en una sola consulta.
      */
     @Override
     @Transactional(readOnly = true)
     public BirdResponseDTO findBirdById(Long id) {
-        Bird bird = birdRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("No se encuentra el ave con ID: " + id));
-        return birdMapper.toBirdResponseDTO(bird);
+        return catalogResponseCache.getBird(id, () -> Optional.ofNullable(loadBirds(Set.of(id)).get(id))
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el ave con ID: " + id)));
+    }
+
+    /**
+     * Obtiene el ave y el resumen de sus avistamientos, calculado con una sola consulta agregada sin cargar
+     * entidades {@code Sighting}.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BirdSummaryResponseDTO findBirdSummary(Long id) {
+        BirdResponseDTO bird = findBirdById(id);
+
+        BirdSightingSummaryRow total = null;
+        List<MonthlySightingCountDTO> monthlyCounts = new ArrayList<>();
+        for (BirdSightingSummaryRow row : sightingRepository.summarizeByBird(id)) {
+            if (row.getTotalRow() != null && row.getTotalRow() == 1) {
+                total = row;
+            } else {
+                monthlyCounts.add(MonthlySightingCountDTO.builder()
+                        .month(YearMonth.from(row.getMonth()))
+                        .sightingCount(row.getSightings())
+                        .build());
+            }
+        }
+
+        return BirdSummaryResponseDTO.builder()
+                .bird(bird)
+                .totalSightings(total == null ? 0 : total.getSightings())
+                .firstSighting(total == null ? null : total.getFirstSighting())
+                .lastSighting(total == null ? null : total.getLastSighting())
+                .distinctCountries(total == null ? 0 : total.getCountries())
+                .distinctObservers(total == null ? 0 : total.getObservers())
+                .monthlyCounts(monthlyCounts)
+                .build();
     }
 
     /**
@@ -117,22 +368,180 @@ public class BirdServiceImpl implements IBirdService {
             throw new ResourceNotFoundException("No se encuentra el ave con ID: " + id);
         }
         birdRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.BIRD, ChangeType.DELETED, id));
         log.info("Ave eliminada con ID: {}", id);
     }
 
     /**
-     * Busca aves por nombre común o científico.
+     * Busca aves por nombre común o científico usando el índice de trigramas, ordenadas por relevancia.
+     * En modo tolerante, las coincidencias del árbol BK se añaden a continuación por orden de cercanía.
      */
     @Override
     @Transactional(readOnly = true)
-    public List<BirdResponseDTO> searchByName(String name) {
-        List<Bird> birds = birdRepository.findAll().stream().filter(bird -> bird.getCommonName().toLowerCase()
-                .contains(name.toLowerCase()) || bird.getScientificName().toLowerCase().contains(name.toLowerCase())).toList();
-
-        if (birds.isEmpty()) {
+    public List<BirdResponseDTO> searchByName(String name, Integer fuzzy) {
+        List<Long> ids = birdNameIndex.search(name);
+        if (fuzzy != null && fuzzy != 0) {
+            if (fuzzy < 0 || fuzzy > maxFuzzyDistance) {
+                throw new BadRequestException("La tolerancia de búsqueda debe estar entre 0 y " + maxFuzzyDistance + ".");
+            }
+            Set<Long> merged = new LinkedHashSet<>(ids);
+            merged.addAll(birdNameIndex.searchFuzzy(name, fuzzy));
+            ids = List.copyOf(merged);
+        }
+        if (ids.isEmpty()) {
             throw new ResourceNotFoundException("No se encontraron aves con el nombre: " + name);
         }
+        return toRankedResponseList(ids);
+    }
 
-        return birdMapper.toBirdResponseList(birds);
+    /**
+     * Indica si alguno de los nombres ya está registrado. El filtro de Bloom descarta sin consultar la base de datos
+     * los nombres que seguro no existen; solo un "quizá" se confirma con dos consultas por índice único.
+     */
+    private boolean nameMayExist(String commonName, String scientificName) {
+        BloomFilter filter = nameFilter;
+        if (nameFilterReady
+                && !filter.mightContain(TextNormalizer.normalize(commonName))
+                && !filter.mightContain(TextNormalizer.normalize(scientificName))) {
+            filterAbsent.incrementAndGet();
+            return false;
+        }
+        boolean exists = birdRepository.existsByCommonName(commonName)
+                || birdRepository.existsByScientificName(scientificName);
+        if (!exists && nameFilterReady) {
+            filterFalsePositives.incrementAndGet();
+        }
+        return exists;
+    }
+
+    /**
+     * Guarda el ave forzando el flush para que las restricciones únicas de nombre se verifiquen aquí: dos
+     * creaciones concurrentes que pasan la comprobación previa terminan en {@link ConflictException}.
+     */
+    private Bird saveUnique(Bird bird) {
+        try {
+            return birdRepository.saveAndFlush(bird);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Nombre de ave duplicado detectado por la base de datos: {}", bird.getScientificName());
+            throw new ConflictException("Ya existe un ave con el mismo nombre común o científico.");
+        }
+    }
+
+    /**
+     * Añade a los conjuntos los nombres del lote ya registrados. Los que el filtro de Bloom descarta no se
+     * consultan; el resto se verifica con una consulta {@code IN} por columna.
+     */
+    private void findTakenNames(List<BirdRequestDTO> items, Set<String> takenCommonNames,
+                                Set<String> takenScientificNames) {
+        BloomFilter filter = nameFilter;
+        Set<String> commonNames = new HashSet<>();
+        Set<String> scientificNames = new HashSet<>();
+        for (BirdRequestDTO item : items) {
+            boolean maybeCommon = !nameFilterReady || filter.mightContain(TextNormalizer.normalize(item.commonName()));
+            boolean maybeScientific = !nameFilterReady
+                    || filter.mightContain(TextNormalizer.normalize(item.scientificName()));
+            if (maybeCommon) {
+                commonNames.add(item.commonName());
+            }
+            if (maybeScientific) {
+                scientificNames.add(item.scientificName());
+            }
+            if (nameFilterReady && !maybeCommon && !maybeScientific) {
+                filterAbsent.incrementAndGet();
+            }
+        }
+        if (!commonNames.isEmpty()) {
+            takenCommonNames.addAll(birdRepository.findExistingCommonNames(commonNames));
+        }
+        if (!scientificNames.isEmpty()) {
+            takenScientificNames.addAll(birdRepository.findExistingScientificNames(scientificNames));
+        }
+        if (nameFilterReady) {
+            for (BirdRequestDTO item : items) {
+                boolean probed = commonNames.contains(item.commonName()) || scientificNames.contains(item.scientificName());
+                if (probed && !takenCommonNames.contains(item.commonName())
+                        && !takenScientificNames.contains(item.scientificName())) {
+                    filterFalsePositives.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Resuelve los hábitats con una sola consulta; lanza {@link ResourceNotFoundException} con el primer ID
+     * inexistente.
+     */
+    private Set<Habitat> resolveHabitats(Set<Long> idHabitats) {
+        if (idHabitats == null || idHabitats.isEmpty()) {
+            return new HashSet<>();
+        }
+        Set<Habitat> habitats = new HashSet<>(habitatRepository.findAllById(idHabitats));
+        if (habitats.size() < idHabitats.size()) {
+            Set<Long> found = habitats.stream().map(Habitat::getIdHabitat).collect(Collectors.toSet());
+            Long missing = idHabitats.stream().filter(id -> !found.contains(id)).findFirst().orElseThrow();
+            throw new ResourceNotFoundException("No se encuentra el hábitat con ID: " + missing);
+        }
+        return habitats;
+    }
+
+    private static Set<Long> collectIds(Stream<Long> ids) {
+        return ids.filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static BatchItemResultDTO rejected(int index, String errorCode, String message) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .success(false)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+
+    private void rememberNames(Bird bird) {
+        nameFilter.put(TextNormalizer.normalize(bird.getCommonName()));
+        nameFilter.put(TextNormalizer.normalize(bird.getScientificName()));
+    }
+
+    private double observedFalsePositiveRate() {
+        long falsePositives = filterFalsePositives.get();
+        long negatives = filterAbsent.get() + falsePositives;
+        return negatives == 0 ? 0 : (double) falsePositives / negatives;
+    }
+
+    /**
+     * Sugiere aves por prefijo desde la tabla de prefijos en memoria, sin acceder a la base de datos.
+     */
+    @Override
+    public List<BirdSuggestionResponseDTO> suggestByPrefix(String prefix, Integer limit) {
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("El límite de sugerencias debe ser mayor a cero.");
+        }
+        int effectiveLimit = limit == null ? defaultSuggestLimit : Math.min(limit, maxSuggestLimit);
+        return birdNameIndex.suggest(prefix, effectiveLimit);
+    }
+
+    /**
+     * Carga las aves indicadas en una sola consulta y las devuelve en el orden de {@code ids}.
+     */
+    private List<BirdResponseDTO> toRankedResponseList(List<Long> ids) {
+        Map<Long, CachedBird> birdsById = catalogResponseCache.getBirds(ids, this::loadBirds);
+        return ids.stream()
+                .map(birdsById::get)
+                .filter(Objects::nonNull)
+                .map(CachedBird::response)
+                .toList();
+    }
+
+    /**
+     * Carga y mapea las aves indicadas con su familia y hábitats en una sola consulta, sin cargas perezosas.
+     */
+    private Map<Long, CachedBird> loadBirds(Set<Long> ids) {
+        Map<Long, CachedBird> loaded = new HashMap<>();
+        for (Bird bird : birdRepository.findAllByIdBirdIn(ids)) {
+            Set<Long> idHabitats = bird.getHabitats().stream().map(Habitat::getIdHabitat).collect(Collectors.toUnmodifiableSet());
+            Long idFamily = bird.getFamily() == null ? null : bird.getFamily().getIdFamily();
+            loaded.put(bird.getIdBird(), new CachedBird(birdMapper.toBirdResponseDTO(bird), idFamily, idHabitats));
+        }
+        return loaded;
     }
 }
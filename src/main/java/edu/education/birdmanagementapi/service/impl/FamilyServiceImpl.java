@@ -3,13 +3,18 @@ package edu.education.birdmanagementapi.service.impl;
 import edu.education.birdmanagementapi.domain.dto.request.FamilyRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.response.FamilyResponseDTO;
 import edu.education.birdmanagementapi.domain.entity.Family;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
 import edu.education.birdmanagementapi.domain.mapper.FamilyMapper;
 import edu.education.birdmanagementapi.exception.ConflictException;
 import edu.education.birdmanagementapi.exception.ResourceNotFoundException;
 import edu.education.birdmanagementapi.repository.FamilyRepository;
+import edu.education.birdmanagementapi.service.index.CatalogResponseCache;
 import edu.education.birdmanagementapi.service.interfaces.IFamilyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +27,8 @@ public class FamilyServiceImpl implements IFamilyService {
 
     private final FamilyRepository familyRepository;
     private final FamilyMapper familyMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogResponseCache catalogResponseCache;
 
     /**
      * Crea una nueva familia validando duplicados.
@@ -36,6 +43,8 @@ public class FamilyServiceImpl implements IFamilyService {
         }
         Family newFamily = familyMapper.toFamilyEntity(familyRequestDTO);
         Family createdFamily = familyRepository.save(newFamily);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.FAMILY, ChangeType.CREATED,
+                createdFamily.getIdFamily()));
         log.info("Familia creada con éxito.");
         return familyMapper.toFamilyResponseDTO(createdFamily);
     }
@@ -53,6 +62,7 @@ public class FamilyServiceImpl implements IFamilyService {
         existingFamily.setDescription(familyRequestDTO.description());
 
         Family updatedFamily = familyRepository.save(existingFamily);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.FAMILY, ChangeType.UPDATED, id));
         log.info("Familia con ID: {} actualizada con éxito.", id);
         return familyMapper.toFamilyResponseDTO(updatedFamily);
     }
@@ -69,28 +79,28 @@ public class FamilyServiceImpl implements IFamilyService {
     }
 
     /**
-     * Busca una familia por ID.
+     * Busca una familia por ID. La respuesta se sirve desde {@link CatalogResponseCache}; un fallo se carga dentro
+     * de la transacción de solo lectura.
      */
     @Override
     @Transactional(readOnly = true)
     public FamilyResponseDTO findFamilyById(Long id) {
-        Family existingFamily = familyRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra la familia con Id: " + id));
-
         log.debug("Consultando familia por Id: {}", id);
-        return familyMapper.toFamilyResponseDTO(existingFamily);
+        return catalogResponseCache.getFamily(id, () -> familyRepository.findById(id)
+                .map(familyMapper::toFamilyResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra la familia con Id: " + id)));
     }
 
     /**
-     * Busca una familia por nombre.
+     * Busca una familia por nombre, desde {@link CatalogResponseCache}.
      */
     @Override
     @Transactional(readOnly = true)
     public FamilyResponseDTO findFamilyByName(String name) {
-        Family existingFamily = familyRepository.findByName(name)
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra la familia con nombre: " + name));
         log.debug("Consultando familia por nombre: {}", name);
-        return familyMapper.toFamilyResponseDTO(existingFamily);
+        return catalogResponseCache.getFamilyByName(name, () -> familyRepository.findByName(name)
+                .map(familyMapper::toFamilyResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra la familia con nombre: " + name)));
     }
 
     /**
@@ -105,6 +115,7 @@ public class FamilyServiceImpl implements IFamilyService {
         }
 
         familyRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.FAMILY, ChangeType.DELETED, id));
         log.info("Eliminado registro de familia con Id: {} con éxito", id);
     }
 }
@@ -3,13 +3,18 @@ package edu.education.birdmanagementapi.service.impl;
 import edu.education.birdmanagementapi.domain.dto.request.HabitatRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.response.HabitatResponseDTO;
 import edu.education.birdmanagementapi.domain.entity.Habitat;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
 import edu.education.birdmanagementapi.domain.mapper.HabitatMapper;
 import edu.education.birdmanagementapi.exception.ConflictException;
 import edu.education.birdmanagementapi.exception.ResourceNotFoundException;
 import edu.education.birdmanagementapi.repository.HabitatRepository;
+import edu.education.birdmanagementapi.service.index.CatalogResponseCache;
 import edu.education.birdmanagementapi.service.interfaces.IHabitatService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +27,8 @@ public class HabitatServiceImpl implements IHabitatService {
 
     private final HabitatRepository habitatRepository;
     private final HabitatMapper habitatMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CatalogResponseCache catalogResponseCache;
 
 
     /**
@@ -41,6 +48,8 @@ public class HabitatServiceImpl implements IHabitatService {
         }
         Habitat newHabitat = habitatMapper.toHabitatEntity(habitatRequestDTO);
         Habitat createdHabitat = habitatRepository.save(newHabitat);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.HABITAT, ChangeType.CREATED,
+                createdHabitat.getIdHabitat()));
         log.info("Habitat creada con éxito.");
         return habitatMapper.toHabitatResponseDTO(createdHabitat);
     }
@@ -63,6 +72,7 @@ public class HabitatServiceImpl implements IHabitatService {
         existHabitat.setDescription(habitatRequestDTO.description());
 
         Habitat updatedHabitat = habitatRepository.save(existHabitat);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.HABITAT, ChangeType.UPDATED, id));
         log.info("Habitat con ID: {} actualizada con éxito.", id);
         return habitatMapper.toHabitatResponseDTO(updatedHabitat);
     }
@@ -90,10 +100,10 @@ public class HabitatServiceImpl implements IHabitatService {
     @Override
     @Transactional(readOnly = true)
     public HabitatResponseDTO findHabitatById(Long id) {
-        Habitat existHabitat = habitatRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("No se encontro el habitta con ID: " + id));
         log.debug("Consultando un habitat por su ID: {} ", id);
-        return habitatMapper.toHabitatResponseDTO(existHabitat);
+        return catalogResponseCache.getHabitat(id, () -> habitatRepository.findById(id)
+                .map(habitatMapper::toHabitatResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encontro el habitta con ID: " + id)));
     }
 
     /**
@@ -106,10 +116,10 @@ public class HabitatServiceImpl implements IHabitatService {
     @Override
     @Transactional(readOnly = true)
     public HabitatResponseDTO findHabitatByName(String name) {
-        Habitat existHabitat = habitatRepository.findByName(name)
-                .orElseThrow(() -> new ResourceNotFoundException("No se encontro el habitta con nombre: " + name));
         log.debug("Consultando un habitat por su nombre: {} ", name);
-        return habitatMapper.toHabitatResponseDTO(existHabitat);
+        return catalogResponseCache.getHabitatByName(name, () -> habitatRepository.findByName(name)
+                .map(habitatMapper::toHabitatResponseDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encontro el habitta con nombre: " + name)));
     }
 
     /**
@@ -126,6 +136,7 @@ public class HabitatServiceImpl implements IHabitatService {
             throw new ResourceNotFoundException("No se encuentra el habitat con ID: " + id);
         }
         habitatRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.HABITAT, ChangeType.DELETED, id));
         log.info("Eliminado el registro del habitat con ID: {} con éxito.", id);
     }
 
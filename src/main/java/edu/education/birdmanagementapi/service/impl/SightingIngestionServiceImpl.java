@@ -0,0 +1,242 @@
+package edu.education.birdmanagementapi.service.impl;
+
+import edu.education.birdmanagementapi.domain.dto.request.SightingBatchRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.request.SightingRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchItemResultDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.IngestionTicketResponseDTO;
+import edu.education.birdmanagementapi.domain.enums.IngestionStatus;
+import edu.education.birdmanagementapi.exception.ResourceNotFoundException;
+import edu.education.birdmanagementapi.exception.ServiceUnavailableException;
+import edu.education.birdmanagementapi.exception.TooManyRequestsException;
+import edu.education.birdmanagementapi.service.interfaces.ISightingIngestionService;
+import edu.education.birdmanagementapi.service.interfaces.ISightingService;
+import edu.education.birdmanagementapi.util.BoundedCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ingesta asíncrona de avistamientos con escritura diferida.
+ * <p>
+ * Las solicitudes se encolan en una cola acotada y se responde de inmediato con un ticket. Un único hilo escritor
+ * vacía la cola en lotes y registra cada lote en una sola transacción (group commit) mediante
+ * {@link ISightingService#createSightingsBatch}. Si la cola está llena la solicitud se rechaza con 429.
+ * <p>
+ * Es un modo opcional ({@code sightings.async.enabled}, desactivado por defecto). Encolar y detener comparten un
+ * cerrojo: una solicitud aceptada siempre queda en la cola antes de que el escritor vea la parada, así que se
+ * registra o, si vence el tiempo de parada, su ticket se marca como fallido.
+ */
+@Slf4j
+@Service
+public class SightingIngestionServiceImpl implements ISightingIngestionService {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final ISightingService sightingService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration shutdownTimeout;
+    private final BlockingQueue<PendingSighting> queue;
+    private final BoundedCache<String, IngestionTicketResponseDTO> tickets;
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    private record PendingSighting(String ticket, SightingRequestDTO request) {
+    }
+
+    public SightingIngestionServiceImpl(ISightingService sightingService,
+                                        @Value("${sightings.async.enabled:false}") boolean enabled,
+                                        @Value("${sightings.async.queue-capacity:10000}") int queueCapacity,
+                                        @Value("${sightings.async.batch-size:500}") int batchSize,
+                                        @Value("${sightings.async.ticket-max:100000}") int maxTickets,
+                                        @Value("${sightings.async.ticket-retention:PT1H}") Duration ticketRetention,
+                                        @Value("${sightings.async.shutdown-timeout:PT30S}") Duration shutdownTimeout) {
+        this.sightingService = sightingService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.shutdownTimeout = shutdownTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = new BoundedCache<>(maxTickets, ticketRetention);
+    }
+
+    /**
+     * Arranca el hilo escritor cuando la aplicación está lista.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "sighting-ingestion-writer");
+        writer.start();
+        log.info("Ingesta asíncrona de avistamientos iniciada (capacidad {}, lotes de {}).",
+                queue.remainingCapacity(), batchSize);
+    }
+
+    /**
+     * Deja de aceptar avistamientos y espera a que el escritor registre los pendientes.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        writer.join(shutdownTimeout.toMillis());
+        if (writer.isAlive()) {
+            writer.interrupt();
+            writer.join(shutdownTimeout.toMillis());
+        }
+        List<PendingSighting> unwritten = new ArrayList<>();
+        queue.drainTo(unwritten);
+        if (!unwritten.isEmpty()) {
+            log.warn("Ingesta asíncrona detenida con {} avistamientos sin registrar.", unwritten.size());
+            for (PendingSighting pending : unwritten) {
+                tickets.put(pending.ticket(), status(pending.ticket(), IngestionStatus.FAILED, null,
+                        "SERVICE_UNAVAILABLE", "La ingesta se detuvo antes de registrar el avistamiento."));
+            }
+        }
+    }
+
+    /**
+     * Encola un avistamiento para su registro asíncrono.
+     *
+     * @param sightingRequestDTO datos del avistamiento (ya validados)
+     * @return ticket en estado {@code QUEUED}
+     * @throws ServiceUnavailableException si la ingesta asíncrona no está activa
+     * @throws TooManyRequestsException    si la cola está llena
+     */
+    @Override
+    public IngestionTicketResponseDTO enqueue(SightingRequestDTO sightingRequestDTO) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (!running) {
+                throw new ServiceUnavailableException("La ingesta asíncrona de avistamientos no está disponible.");
+            }
+            String ticket = UUID.randomUUID().toString();
+            IngestionTicketResponseDTO queued = status(ticket, IngestionStatus.QUEUED, null, null,
+                    "Avistamiento en cola de registro.");
+            tickets.put(ticket, queued);
+
+            if (!queue.offer(new PendingSighting(ticket, sightingRequestDTO))) {
+                tickets.invalidate(ticket);
+                log.warn("Cola de ingesta llena, avistamiento rechazado.");
+                throw new TooManyRequestsException("La cola de ingesta de avistamientos está llena, intente más tarde.");
+            }
+            return queued;
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Consulta el estado de un ticket de ingesta.
+     *
+     * @param ticket identificador del ticket
+     * @return estado actual del ticket
+     * @throws ResourceNotFoundException si el ticket no existe o ya caducó
+     */
+    @Override
+    public IngestionTicketResponseDTO findTicket(String ticket) {
+        IngestionTicketResponseDTO status = tickets.getIfPresent(ticket);
+        if (status == null) {
+            throw new ResourceNotFoundException("No se encuentra el ticket de ingesta: " + ticket);
+        }
+        return status;
+    }
+
+    private void drainLoop() {
+        List<PendingSighting> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingSighting first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error inesperado en el escritor de ingesta: ", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Registra un lote en una transacción. Si el lote completo falla se reintenta cada elemento por separado,
+     * para que un registro inválido no descarte al resto.
+     */
+    private void writeBatch(List<PendingSighting> batch) {
+        try {
+            record(batch, sightingService.createSightingsBatch(toRequest(batch)));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                PendingSighting pending = batch.get(0);
+                log.warn("No fue posible registrar el avistamiento del ticket {}: {}", pending.ticket(),
+                        e.getMessage());
+                tickets.put(pending.ticket(), status(pending.ticket(), IngestionStatus.FAILED, null,
+                        "INTERNAL_ERROR", "No fue posible registrar el avistamiento."));
+                return;
+            }
+            log.warn("Falló el lote de {} avistamientos, se reintenta por elemento: {}", batch.size(),
+                    e.getMessage());
+            for (PendingSighting pending : batch) {
+                writeBatch(List.of(pending));
+            }
+        }
+    }
+
+    private void record(List<PendingSighting> batch, BatchResponseDTO response) {
+        for (BatchItemResultDTO result : response.results()) {
+            String ticket = batch.get(result.index()).ticket();
+            tickets.put(ticket, result.success()
+                    ? status(ticket, IngestionStatus.CREATED, result.id(), null, result.message())
+                    : status(ticket, IngestionStatus.REJECTED, null, result.errorCode(), result.message()));
+        }
+        log.debug("Lote de ingesta registrado: {} creados, {} rechazados.", response.created(), response.rejected());
+    }
+
+    private SightingBatchRequestDTO toRequest(List<PendingSighting> batch) {
+        return new SightingBatchRequestDTO(batch.stream().map(PendingSighting::request).toList());
+    }
+
+    private IngestionTicketResponseDTO status(String ticket, IngestionStatus status, Long idSighting,
+                                              String errorCode, String message) {
+        return IngestionTicketResponseDTO.builder()
+                .ticket(ticket)
+                .status(status)
+                .idSighting(idSighting)
+                .errorCode(errorCode)
+                .message(message)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,19 +1,55 @@
 package edu.education.birdmanagementapi.service.impl;
 
+import edu.education.birdmanagementapi.domain.dto.request.SightingBatchRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.request.SightingRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchItemResultDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.CursorPageResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.DailySightingStatResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.HeatmapCellDTO;
+import edu.education.birdmanagementapi.domain.dto.response.HeatmapTileResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.NearestSightingResponseDTO;
 import edu.education.birdmanagementapi.domain.dto.response.SightingResponseDTO;
 import edu.education.birdmanagementapi.domain.entity.*;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.SightingChangedEvent;
 import edu.education.birdmanagementapi.domain.mapper.SightingMapper;
+import edu.education.birdmanagementapi.exception.BadRequestException;
 import edu.education.birdmanagementapi.exception.ResourceNotFoundException;
 import edu.education.birdmanagementapi.repository.*;
+import edu.education.birdmanagementapi.service.index.HeatmapTileCache;
+import edu.education.birdmanagementapi.service.index.ReferenceDataCache;
+import edu.education.birdmanagementapi.service.index.SightingSpatialIndex;
 import edu.education.birdmanagementapi.service.interfaces.ISightingService;
+import edu.education.birdmanagementapi.util.CursorUtils;
+import edu.education.birdmanagementapi.util.GeoHashUtils;
+import edu.education.birdmanagementapi.util.TileUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -26,7 +62,22 @@ public class SightingServiceImpl implements ISightingService {
     private final UserRepository userRepository;
     private final SightingMapper sightingMapper;
     private final SightingRepository sightingRepository;
+    private final SightingDailyStatRepository sightingDailyStatRepository;
+    private final SightingSpatialIndex sightingSpatialIndex;
+    private final HeatmapTileCache heatmapTileCache;
+    private final ReferenceDataCache referenceDataCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
 
+    @Value("${sightings.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${sightings.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${sightings.heatmap.grid-size:32}")
+    private int heatmapGridSize;
 
     /**
      * Crea un nuevo avistamiento.
@@ -38,29 +89,90 @@ public class SightingServiceImpl implements ISightingService {
     @Transactional
     public SightingResponseDTO createSighting(SightingRequestDTO sightingRequestDTO) {
 
-        Country existsCountry = countryRepository.findById(sightingRequestDTO.idCountry())
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el pais con Id: " +
-                        sightingRequestDTO.idCountry()));
+        References references = resolveReferences(sightingRequestDTO);
+        Sighting newSighting = sightingMapper.toSightingEntity(sightingRequestDTO,
+                countryRepository.getReferenceById(sightingRequestDTO.idCountry()),
+                birdRepository.getReferenceById(sightingRequestDTO.idBird()),
+                habitatRepository.getReferenceById(sightingRequestDTO.idHabitat()),
+                userRepository.getReferenceById(sightingRequestDTO.idUser()));
+        newSighting.setGeohash(GeoHashUtils.encode(sightingRequestDTO.latitude(), sightingRequestDTO.longitude()));
 
-        Bird existsBird = birdRepository.findById(sightingRequestDTO.idBird())
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el ave con Id: " +
-                        sightingRequestDTO.idBird()));
+        Sighting createSighting = sightingRepository.save(newSighting);
+        applyDailyStats(Map.of(SightingDailyStatId.of(createSighting), 1L));
+        log.info("Avistamiento creado con éxito: {}", createSighting.getIdSighting());
+        publishChange(ChangeType.CREATED, createSighting);
 
-        Habitat existsHabitat = habitatRepository.findById(sightingRequestDTO.idHabitat())
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el habitat con Id: " +
-                        sightingRequestDTO.idHabitat()));
+        return sightingMapper.toSightingResponseDTO(createSighting, references.countryName(),
+                references.birdName(), references.habitatName(), references.userName());
+    }
 
-        User existsUser = userRepository.findById(sightingRequestDTO.idUser())
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el usuario con Id: " +
-                        sightingRequestDTO.idUser()));
+    /**
+     * Registra un lote de avistamientos validando las referencias con una consulta {@code IN} por tipo
+     * e insertando con batching JDBC. Los elementos con referencias inexistentes se rechazan sin
+     * afectar al resto del lote.
+     *
+     * @param batchRequestDTO avistamientos a registrar
+     * @return resultado por elemento
+     */
+    @Override
+    @Transactional
+    public BatchResponseDTO createSightingsBatch(SightingBatchRequestDTO batchRequestDTO) {
+        List<SightingRequestDTO> items = batchRequestDTO.sightings();
 
-        Sighting newSighting = sightingMapper.toSightingEntity(sightingRequestDTO, existsCountry, existsBird,
-                existsHabitat, existsUser);
+        Set<Long> countryIds = countryRepository.findExistingIds(collectIds(items, SightingRequestDTO::idCountry));
+        Set<Long> birdIds = birdRepository.findExistingIds(collectIds(items, SightingRequestDTO::idBird));
+        Set<Long> habitatIds = habitatRepository.findExistingIds(collectIds(items, SightingRequestDTO::idHabitat));
+        Set<Long> userIds = userRepository.findExistingIds(collectIds(items, SightingRequestDTO::idUser));
 
-        Sighting createSighting = sightingRepository.save(newSighting);
-        log.info("Avistamiento creado con éxito: {}", createSighting.getIdSighting());
+        BatchItemResultDTO[] results = new BatchItemResultDTO[items.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>(items.size());
+        List<Sighting> newSightings = new ArrayList<>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            SightingRequestDTO item = items.get(i);
+            String missing = missingReference(item, countryIds, birdIds, habitatIds, userIds);
+            if (missing != null) {
+                results[i] = BatchItemResultDTO.builder()
+                        .index(i)
+                        .success(false)
+                        .errorCode("RESOURCE_NOT_FOUND")
+                        .message(missing)
+                        .build();
+                continue;
+            }
+            Sighting newSighting = sightingMapper.toSightingEntity(item,
+                    countryRepository.getReferenceById(item.idCountry()),
+                    birdRepository.getReferenceById(item.idBird()),
+                    habitatRepository.getReferenceById(item.idHabitat()),
+                    userRepository.getReferenceById(item.idUser()));
+            newSighting.setGeohash(GeoHashUtils.encode(item.latitude(), item.longitude()));
+            newSightings.add(newSighting);
+            acceptedIndexes.add(i);
+        }
+
+        List<Sighting> saved = sightingRepository.saveAll(newSightings);
+        Map<SightingDailyStatId, Long> deltas = new HashMap<>();
+        saved.forEach(sighting -> deltas.merge(SightingDailyStatId.of(sighting), 1L, Long::sum));
+        applyDailyStats(deltas);
+        for (int i = 0; i < saved.size(); i++) {
+            Sighting sighting = saved.get(i);
+            int index = acceptedIndexes.get(i);
+            results[index] = BatchItemResultDTO.builder()
+                    .index(index)
+                    .success(true)
+                    .id(sighting.getIdSighting())
+                    .message("Avistamiento creado con éxito.")
+                    .build();
+            publishChange(ChangeType.CREATED, sighting);
+        }
 
-        return sightingMapper.toSightingResponseDTO(createSighting);
+        log.info("Lote de avistamientos procesado: {} recibidos, {} creados.", items.size(), saved.size());
+        return BatchResponseDTO.builder()
+                .received(items.size())
+                .created(saved.size())
+                .rejected(items.size() - saved.size())
+                .results(List.of(results))
+                .build();
     }
 
     /**
@@ -77,47 +189,45 @@ public class SightingServiceImpl implements ISightingService {
         Sighting existsSighting = sightingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el avistamiento con ID: " + id));
 
-        Country existsCountry = countryRepository.findById(sightingRequestDTO.idCountry())
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el pais con Id: " +
-                        sightingRequestDTO.idCountry()));
-
-        Bird existsBird = birdRepository.findById(sightingRequestDTO.idBird())
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el ave con Id: " +
-                        sightingRequestDTO.idBird()));
-
-        Habitat existsHabitat = habitatRepository.findById(sightingRequestDTO.idHabitat())
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el habitat con Id: " +
-                        sightingRequestDTO.idHabitat()));
-
-        User existsUser = userRepository.findById(sightingRequestDTO.idUser())
-                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el usuario con Id: " +
-                        sightingRequestDTO.idUser()));
+        References references = resolveReferences(sightingRequestDTO);
 
+        SightingDailyStatId previousBucket = SightingDailyStatId.of(existsSighting);
+        Double previousLatitude = existsSighting.getLatitude();
+        Double previousLongitude = existsSighting.getLongitude();
         existsSighting.setLatitude(sightingRequestDTO.latitude());
         existsSighting.setLongitude(sightingRequestDTO.longitude());
+        existsSighting.setGeohash(GeoHashUtils.encode(sightingRequestDTO.latitude(), sightingRequestDTO.longitude()));
         existsSighting.setSightingDateTime(sightingRequestDTO.sightingDateTime());
         existsSighting.setNotes(sightingRequestDTO.notes());
-        existsSighting.setCountry(existsCountry);
-        existsSighting.setBird(existsBird);
-        existsSighting.setHabitat(existsHabitat);
-        existsSighting.setUser(existsUser);
+        existsSighting.setCountry(countryRepository.getReferenceById(sightingRequestDTO.idCountry()));
+        existsSighting.setBird(birdRepository.getReferenceById(sightingRequestDTO.idBird()));
+        existsSighting.setHabitat(habitatRepository.getReferenceById(sightingRequestDTO.idHabitat()));
+        existsSighting.setUser(userRepository.getReferenceById(sightingRequestDTO.idUser()));
 
         Sighting updateSighting = sightingRepository.save(existsSighting);
+        SightingDailyStatId currentBucket = SightingDailyStatId.of(updateSighting);
+        if (!previousBucket.equals(currentBucket)) {
+            applyDailyStats(Map.of(previousBucket, -1L, currentBucket, 1L));
+        }
         log.info("Avistamiento actualizado ID: {}", id);
-        return sightingMapper.toSightingResponseDTO(updateSighting);
+        publishChange(ChangeType.UPDATED, updateSighting, previousLatitude, previousLongitude);
+        return sightingMapper.toSightingResponseDTO(updateSighting, references.countryName(),
+                references.birdName(), references.habitatName(), references.userName());
     }
 
     /**
-     * Lista todos los avistamientos registrados.
+     * Lista los avistamientos registrados paginados por cursor sobre el ID.
      *
-     * @return lista de avistamientos
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos
      */
     @Override
     @Transactional(readOnly = true)
-    public List<SightingResponseDTO> findAllSightings() {
-        return sightingRepository.findAll().stream()
-                .map(sightingMapper::toSightingResponseDTO)
-                .toList();
+    public CursorPageResponseDTO<SightingResponseDTO> findAllSightings(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        List<SightingResponseDTO> rows = sightingRepository.findPageAfter(afterId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
     }
 
     /**
@@ -129,80 +239,274 @@ public class SightingServiceImpl implements ISightingService {
     @Override
     @Transactional(readOnly = true)
     public SightingResponseDTO findSightingById(Long id) {
-        Sighting sightingById = sightingRepository.findById(id)
+        return sightingRepository.findResponseById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el avistamiento con ID: " + id));
-        return sightingMapper.toSightingResponseDTO(sightingById);
     }
 
     /**
      * Busca avistamientos por el ID del ave.
      *
      * @param idBird identificador del ave
-     * @return lista de avistamientos asociados
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos asociados
      */
     @Override
     @Transactional(readOnly = true)
-    public List<SightingResponseDTO> findByBirdId(Long idBird) {
-        return sightingRepository.findByBirdIdBird(idBird).stream()
-                .map(sightingMapper::toSightingResponseDTO)
-                .toList();
+    public CursorPageResponseDTO<SightingResponseDTO> findByBirdId(Long idBird, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        List<SightingResponseDTO> rows = sightingRepository.findPageByBirdAfter(idBird, afterId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
     }
 
     /**
      * Busca avistamientos por el ID del usuario.
      *
      * @param idUser identificador del usuario
-     * @return lista de avistamientos asociados
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos asociados
      */
     @Override
     @Transactional(readOnly = true)
-    public List<SightingResponseDTO> findByUserId(Long idUser) {
-        return sightingRepository.findByUserIdUser(idUser).stream()
-                .map(sightingMapper::toSightingResponseDTO)
-                .toList();
+    public CursorPageResponseDTO<SightingResponseDTO> findByUserId(Long idUser, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        List<SightingResponseDTO> rows = sightingRepository.findPageByUserAfter(idUser, afterId(cursor), Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
     }
 
     /**
      * Busca avistamientos por el ID del país.
      *
      * @param idCountry identificador del país
-     * @return lista de avistamientos asociados
+     * @param cursor    cursor de la página anterior (null para la primera)
+     * @param size      tamaño de página solicitado
+     * @return página de avistamientos asociados
      */
     @Override
     @Transactional(readOnly = true)
-    public List<SightingResponseDTO> findByCountryId(Long idCountry) {
-        return sightingRepository.findByCountryIdCountry(idCountry).stream()
-                .map(sightingMapper::toSightingResponseDTO)
-                .toList();
+    public CursorPageResponseDTO<SightingResponseDTO> findByCountryId(Long idCountry, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        List<SightingResponseDTO> rows = sightingRepository.findPageByCountryAfter(idCountry, afterId(cursor),
+                Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
     }
 
     /**
      * Busca avistamientos por el ID del hábitat.
      *
      * @param idHabitat identificador del hábitat
-     * @return lista de avistamientos asociados
+     * @param cursor    cursor de la página anterior (null para la primera)
+     * @param size      tamaño de página solicitado
+     * @return página de avistamientos asociados
      */
     @Override
     @Transactional(readOnly = true)
-    public List<SightingResponseDTO> findByHabitatId(Long idHabitat) {
-        return sightingRepository.findByHabitatIdHabitat(idHabitat).stream()
-                .map(sightingMapper::toSightingResponseDTO)
-                .toList();
+    public CursorPageResponseDTO<SightingResponseDTO> findByHabitatId(Long idHabitat, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        List<SightingResponseDTO> rows = sightingRepository.findPageByHabitatAfter(idHabitat, afterId(cursor),
+                Limit.of(pageSize + 1));
+        return toIdPage(rows, pageSize);
     }
 
     /**
-     * Busca avistamientos dentro de un rango de fechas.
+     * Busca avistamientos dentro de un rango de fechas, paginados por cursor sobre (fecha/hora, ID).
      *
-     * @param from fecha/hora de inicio
-     * @param to   fecha/hora de fin
-     * @return lista de avistamientos en el rango especificado
+     * @param from   fecha/hora de inicio
+     * @param to     fecha/hora de fin
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos en el rango especificado
      */
     @Override
     @Transactional(readOnly = true)
-    public List<SightingResponseDTO> findByDateRange(LocalDateTime from, LocalDateTime to) {
-        return sightingRepository.findBySightingDateTimeBetween(from, to).stream()
-                .map(sightingMapper::toSightingResponseDTO)
-                .toList();
+    public CursorPageResponseDTO<SightingResponseDTO> findByDateRange(LocalDateTime from, LocalDateTime to,
+                                                                      String cursor, Integer size) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("La fecha de inicio no puede ser posterior a la fecha de fin.");
+        }
+        int pageSize = resolvePageSize(size);
+        CursorUtils.DateTimeCursor position = cursor == null
+                ? new CursorUtils.DateTimeCursor(from, Long.MIN_VALUE)
+                : CursorUtils.decodeDateTime(cursor);
+
+        List<SightingResponseDTO> rows = sightingRepository.findPageByDateRangeAfter(position.sightingDateTime(),
+                position.idSighting(), to, Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<SightingResponseDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            SightingResponseDTO last = page.get(page.size() - 1);
+            nextCursor = CursorUtils.encode(last.sightingDateTime(), last.idSighting());
+        }
+        return toPage(page, hasNext, nextCursor);
+    }
+
+    /**
+     * Busca avistamientos dentro de una caja geográfica usando escaneos de rango por prefijo de geohash.
+     *
+     * @param minLat latitud mínima
+     * @param minLon longitud mínima
+     * @param maxLat latitud máxima
+     * @param maxLon longitud máxima
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos dentro de la caja
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<SightingResponseDTO> findWithinBoundingBox(double minLat, double minLon,
+                                                                            double maxLat, double maxLon,
+                                                                            String cursor, Integer size) {
+        if (minLat < -90 || maxLat > 90 || minLon < -180 || maxLon > 180) {
+            throw new BadRequestException("Las coordenadas de la caja están fuera de rango.");
+        }
+        if (minLat > maxLat || minLon > maxLon) {
+            throw new BadRequestException("Los valores mínimos de la caja no pueden superar a los máximos.");
+        }
+        List<GeoHashUtils.GeoHashRange> ranges = GeoHashUtils.coveringRanges(minLat, minLon, maxLat, maxLon);
+        int pageSize = resolvePageSize(size);
+        List<SightingResponseDTO> rows = sightingRepository.findWithinBoundingBox(minLat, minLon, maxLat, maxLon,
+                ranges, afterId(cursor), pageSize + 1);
+        return toIdPage(rows, pageSize);
+    }
+
+    /**
+     * Busca los avistamientos más cercanos a un punto sin consultar la base de datos.
+     *
+     * @param latitude  latitud del punto
+     * @param longitude longitud del punto
+     * @param k         número de vecinos
+     * @param idBird    ave a filtrar (opcional)
+     * @return vecinos ordenados por distancia
+     */
+    @Override
+    public List<NearestSightingResponseDTO> findNearest(double latitude, double longitude, Integer k, Long idBird) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Las coordenadas del punto están fuera de rango.");
+        }
+        return sightingSpatialIndex.findNearest(latitude, longitude, resolvePageSize(k), idBird);
+    }
+
+    /**
+     * Calcula la densidad de avistamientos de una tesela z/x/y en una rejilla de celdas.
+     * El resultado se guarda en caché hasta que cambia un avistamiento dentro de la tesela.
+     *
+     * @param z      nivel de zoom
+     * @param x      columna de la tesela
+     * @param y      fila de la tesela
+     * @param idBird ave (opcional)
+     * @param from   fecha/hora mínima (opcional)
+     * @param to     fecha/hora máxima (opcional)
+     * @return conteos por celda
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public HeatmapTileResponseDTO findHeatmapTile(int z, int x, int y, Long idBird, LocalDateTime from,
+                                                  LocalDateTime to) {
+        if (!TileUtils.isValid(z, x, y)) {
+            throw new BadRequestException("La tesela solicitada no existe: " + z + "/" + x + "/" + y);
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("La fecha de inicio no puede ser posterior a la fecha de fin.");
+        }
+        return heatmapTileCache.get(new HeatmapTileCache.Key(z, x, y, idBird, from, to),
+                () -> computeHeatmapTile(z, x, y, idBird, from, to));
+    }
+
+    private HeatmapTileResponseDTO computeHeatmapTile(int z, int x, int y, Long idBird, LocalDateTime from,
+                                                      LocalDateTime to) {
+        TileUtils.TileBounds bounds = TileUtils.bounds(z, x, y);
+        List<GeoHashUtils.GeoHashRange> ranges = GeoHashUtils.coveringRanges(bounds.minLat(), bounds.minLon(),
+                bounds.maxLat(), bounds.maxLon());
+
+        // Los puntos sobre el borde este/sur caen en el índice gridSize y se acotan a la última celda.
+        Map<Long, Long> counts = new TreeMap<>();
+        for (HeatmapCellDTO cell : sightingRepository.aggregateHeatmap(bounds, heatmapGridSize, ranges, idBird,
+                from, to)) {
+            long col = Math.min(Math.max(cell.col(), 0), heatmapGridSize - 1);
+            long row = Math.min(Math.max(cell.row(), 0), heatmapGridSize - 1);
+            counts.merge(row * heatmapGridSize + col, cell.count(), Long::sum);
+        }
+        List<HeatmapCellDTO> cells = new ArrayList<>(counts.size());
+        long total = 0;
+        for (Map.Entry<Long, Long> count : counts.entrySet()) {
+            cells.add(new HeatmapCellDTO((int) (count.getKey() % heatmapGridSize),
+                    (int) (count.getKey() / heatmapGridSize), count.getValue()));
+            total += count.getValue();
+        }
+
+        return HeatmapTileResponseDTO.builder()
+                .z(z)
+                .x(x)
+                .y(y)
+                .gridSize(heatmapGridSize)
+                .total(total)
+                .cells(List.copyOf(cells))
+                .build();
+    }
+
+    /**
+     * Prepara la exportación en NDJSON (un avistamiento por línea) de los avistamientos que cumplen los filtros.
+     * Los filtros se validan antes de escribir la respuesta; la escritura recorre un cursor de solo avance
+     * dentro de una transacción de solo lectura, por lo que la memoria usada no depende del número de filas.
+     *
+     * @param idBird    ave (opcional)
+     * @param idCountry país (opcional)
+     * @param idHabitat hábitat (opcional)
+     * @param from      fecha/hora mínima (opcional)
+     * @param to        fecha/hora máxima (opcional)
+     * @return cuerpo de respuesta que escribe la exportación
+     */
+    @Override
+    public StreamingResponseBody exportSightings(Long idBird, Long idCountry, Long idHabitat,
+                                                 LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("La fecha de inicio no puede ser posterior a la fecha de fin.");
+        }
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        return outputStream -> {
+            long exported = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                try (Stream<SightingResponseDTO> rows = sightingRepository.streamForExport(idBird, idCountry,
+                        idHabitat, from, to)) {
+                    Iterator<SightingResponseDTO> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                        outputStream.write('\n');
+                        count++;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return count;
+            });
+            outputStream.flush();
+            log.info("Exportación de avistamientos finalizada: {} filas.", exported);
+        };
+    }
+
+    /**
+     * Consulta el acumulado diario de avistamientos por ave, país y hábitat.
+     *
+     * @param from      día inicial (inclusive)
+     * @param to        día final (inclusive)
+     * @param idBird    ave (opcional)
+     * @param idCountry país (opcional)
+     * @param idHabitat hábitat (opcional)
+     * @return buckets con avistamientos dentro del rango
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailySightingStatResponseDTO> findDailyStats(LocalDate from, LocalDate to, Long idBird,
+                                                             Long idCountry, Long idHabitat) {
+        if (from.isAfter(to)) {
+            throw new BadRequestException("La fecha de inicio no puede ser posterior a la fecha de fin.");
+        }
+        return sightingDailyStatRepository.findDailyStats(from, to, idBird, idCountry, idHabitat);
     }
 
     /**
@@ -213,10 +517,135 @@ public class SightingServiceImpl implements ISightingService {
     @Override
     @Transactional
     public void deleteSightingById(Long id) {
-        if (!sightingRepository.existsById(id)) {
-            throw new ResourceNotFoundException("No se encuentra el avistamiento con ID: " + id);
-        }
-        sightingRepository.deleteById(id);
+        Sighting existsSighting = sightingRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el avistamiento con ID: " + id));
+        SightingDailyStatId bucket = SightingDailyStatId.of(existsSighting);
+        sightingRepository.delete(existsSighting);
+        applyDailyStats(Map.of(bucket, -1L));
+        eventPublisher.publishEvent(new SightingChangedEvent(ChangeType.DELETED, id,
+                existsSighting.getBird().getIdBird(), existsSighting.getLatitude(), existsSighting.getLongitude(),
+                null, null));
         log.info("Avistamiento eliminado ID: {}", id);
     }
+
+    /**
+     * Aplica el tamaño por defecto y el máximo permitido por el servidor.
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException("El tamaño de página debe ser mayor a cero.");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    private void publishChange(ChangeType changeType, Sighting sighting) {
+        publishChange(changeType, sighting, null, null);
+    }
+
+    private void publishChange(ChangeType changeType, Sighting sighting, Double previousLatitude,
+                               Double previousLongitude) {
+        eventPublisher.publishEvent(new SightingChangedEvent(changeType, sighting.getIdSighting(),
+                sighting.getBird().getIdBird(), sighting.getLatitude(), sighting.getLongitude(), previousLatitude,
+                previousLongitude));
+    }
+
+    /**
+     * Nombres de las referencias de un avistamiento, obtenidos de la caché de datos de referencia.
+     */
+    private record References(String countryName, String birdName, String habitatName, String userName) {
+    }
+
+    /**
+     * Verifica que existan el país, ave, hábitat y usuario indicados, usando la caché de datos de referencia.
+     */
+    private References resolveReferences(SightingRequestDTO sightingRequestDTO) {
+        String countryName = referenceDataCache.findCountryName(sightingRequestDTO.idCountry())
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el pais con Id: " +
+                        sightingRequestDTO.idCountry()));
+
+        String birdName = referenceDataCache.findBirdName(sightingRequestDTO.idBird())
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el ave con Id: " +
+                        sightingRequestDTO.idBird()));
+
+        String habitatName = referenceDataCache.findHabitatName(sightingRequestDTO.idHabitat())
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el habitat con Id: " +
+                        sightingRequestDTO.idHabitat()));
+
+        String userName = referenceDataCache.findUserName(sightingRequestDTO.idUser())
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el usuario con Id: " +
+                        sightingRequestDTO.idUser()));
+
+        return new References(countryName, birdName, habitatName, userName);
+    }
+
+    /**
+     * Aplica los incrementos al acumulado diario dentro de la transacción en curso.
+     */
+    private void applyDailyStats(Map<SightingDailyStatId, Long> deltas) {
+        boolean decremented = false;
+        for (Map.Entry<SightingDailyStatId, Long> delta : deltas.entrySet()) {
+            SightingDailyStatId bucket = delta.getKey();
+            sightingDailyStatRepository.addToBucket(bucket.getStatDate(), bucket.getIdBird(), bucket.getIdCountry(),
+                    bucket.getIdHabitat(), delta.getValue());
+            decremented |= delta.getValue() < 0;
+        }
+        if (decremented) {
+            sightingDailyStatRepository.deleteEmptyBuckets();
+        }
+    }
+
+    private Set<Long> collectIds(List<SightingRequestDTO> items, Function<SightingRequestDTO, Long> idExtractor) {
+        Set<Long> ids = new HashSet<>();
+        for (SightingRequestDTO item : items) {
+            ids.add(idExtractor.apply(item));
+        }
+        return ids;
+    }
+
+    /**
+     * Devuelve el mensaje de la primera referencia inexistente del elemento, o {@code null} si todas existen.
+     */
+    private String missingReference(SightingRequestDTO item, Set<Long> countryIds, Set<Long> birdIds,
+                                    Set<Long> habitatIds, Set<Long> userIds) {
+        if (!countryIds.contains(item.idCountry())) {
+            return "No se encuentra el pais con Id: " + item.idCountry();
+        }
+        if (!birdIds.contains(item.idBird())) {
+            return "No se encuentra el ave con Id: " + item.idBird();
+        }
+        if (!habitatIds.contains(item.idHabitat())) {
+            return "No se encuentra el habitat con Id: " + item.idHabitat();
+        }
+        if (!userIds.contains(item.idUser())) {
+            return "No se encuentra el usuario con Id: " + item.idUser();
+        }
+        return null;
+    }
+
+    private Long afterId(String cursor) {
+        return cursor == null ? 0L : CursorUtils.decodeId(cursor);
+    }
+
+    /**
+     * Construye una página keyset sobre el ID a partir de {@code pageSize + 1} filas leídas.
+     */
+    private CursorPageResponseDTO<SightingResponseDTO> toIdPage(List<SightingResponseDTO> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<SightingResponseDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CursorUtils.encode(page.get(page.size() - 1).idSighting()) : null;
+        return toPage(page, hasNext, nextCursor);
+    }
+
+    private CursorPageResponseDTO<SightingResponseDTO> toPage(List<SightingResponseDTO> page, boolean hasNext,
+                                                              String nextCursor) {
+        return CursorPageResponseDTO.<SightingResponseDTO>builder()
+                .content(List.copyOf(page))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
 }
@@ -2,13 +2,27 @@ package edu.education.birdmanagementapi.service.impl;
 
 import edu.education.birdmanagementapi.domain.dto.request.AuthCreateUserDTO;
 import edu.education.birdmanagementapi.domain.dto.request.AuthLoginRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.request.RolePermissionsRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.response.AuthResponseDTO;
+import edu.education.birdmanagementapi.domain.entity.Permission;
 import edu.education.birdmanagementapi.domain.entity.Role;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import edu.education.birdmanagementapi.domain.entity.User;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
+import edu.education.birdmanagementapi.domain.security.SecurityUser;
+import edu.education.birdmanagementapi.repository.PermissionRepository;
 import edu.education.birdmanagementapi.repository.RoleRepository;
+import edu.education.birdmanagementapi.exception.BadRequestException;
+import edu.education.birdmanagementapi.exception.ResourceNotFoundException;
 import edu.education.birdmanagementapi.repository.UserRepository;
+import edu.education.birdmanagementapi.service.index.TokenRevocationList;
 import edu.education.birdmanagementapi.util.JwtUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -18,8 +32,10 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -36,24 +52,33 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final JwtUtils jwtUtils;
     private final PasswordEncoder passwordEncoder;
     private final RoleRepository roleRepository;
+    private final PermissionRepository permissionRepository;
+    private final TokenRevocationList tokenRevocationList;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserDetailsServiceImpl(UserRepository userRepository, JwtUtils jwtUtils, PasswordEncoder passwordEncoder, RoleRepository roleRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, JwtUtils jwtUtils, PasswordEncoder passwordEncoder,
+                                  RoleRepository roleRepository, PermissionRepository permissionRepository,
+                                  TokenRevocationList tokenRevocationList, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.jwtUtils = jwtUtils;
         this.passwordEncoder = passwordEncoder;
         this.roleRepository = roleRepository;
+        this.permissionRepository = permissionRepository;
+        this.tokenRevocationList = tokenRevocationList;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Carga el usuario por su nombre de usuario.
-     * Mapea la entidad User a un objeto UserDetails de Spring Security,
-     * incluyendo sus Roles (con prefijo ROLE_) y Permisos.
+     * Mapea la entidad User a un {@link SecurityUser}, incluyendo sus Roles (con prefijo ROLE_), Permisos
+     * y la versión de seguridad que se incrusta en el token.
      *
      * @param username El nombre de usuario que intenta autenticarse.
      * @return Los detalles del usuario (UserDetails).
      * @throws UsernameNotFoundException Si el usuario no existe en la base de datos.
      */
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
 
         User user = userRepository.findByUsername(username)
@@ -68,7 +93,9 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .flatMap(role -> role.getPermissions().stream())
                 .forEach(permission -> authorityList.add(new SimpleGrantedAuthority(permission.getName())));
 
-        return new org.springframework.security.core.userdetails.User(user.getUsername(),
+        return new SecurityUser(user.getIdUser(),
+                user.getSecurityVersion(),
+                user.getUsername(),
                 user.getPassword(),
                 user.isEnabled(),
                 user.isAccountNoExpired(),
@@ -102,6 +129,8 @@ public class UserDetailsServiceImpl implements UserDetailsService {
      * @param password Contraseña en claro.
      * @return Authentication válida.
      * @throws BadCredentialsException si credenciales inválidas.
+     * @throws DisabledException       si el usuario está deshabilitado.
+     * @throws LockedException         si la cuenta está bloqueada.
      */
     private Authentication authenticate(String username, String password) {
         UserDetails userDetails = loadUserByUsername(username);
@@ -113,6 +142,14 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         if (!passwordEncoder.matches(password, userDetails.getPassword())) {
             throw new BadCredentialsException("Password inválido.");
         }
+
+        if (!userDetails.isEnabled()) {
+            throw new DisabledException("El usuario está deshabilitado.");
+        }
+
+        if (!userDetails.isAccountNonLocked()) {
+            throw new LockedException("La cuenta del usuario está bloqueada.");
+        }
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 
@@ -159,4 +196,73 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         return new AuthResponseDTO(userCreated.getUsername(), "Usuario creado correctamente.", accessToken, true);
     }
 
+    /**
+     * Cierra la sesión revocando el token hasta su caducidad.
+     *
+     * @param token JWT de la petición (sin el prefijo Bearer).
+     * @return AuthResponseDTO con el usuario y mensaje.
+     * @throws BadRequestException si el token no es válido.
+     */
+    public AuthResponseDTO logout(String token) {
+        DecodedJWT decodedJWT = jwtUtils.validateToken(token);
+        if (decodedJWT == null || decodedJWT.getId() == null) {
+            throw new BadRequestException("El token no es válido o no puede revocarse.");
+        }
+
+        tokenRevocationList.revoke(decodedJWT.getId(), decodedJWT.getExpiresAtAsInstant());
+
+        return new AuthResponseDTO(decodedJWT.getSubject(), "Sesión cerrada correctamente.", null, true);
+    }
+
+    /**
+     * Deshabilita un usuario. Incrementa su versión de seguridad, de modo que sus tokens dejan de aceptarse
+     * en cuanto se confirma el cambio.
+     *
+     * @param idUser ID del usuario.
+     * @throws ResourceNotFoundException si el usuario no existe.
+     */
+    @Transactional
+    public void disableUser(Long idUser) {
+        User user = userRepository.findById(idUser)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el usuario con Id: " + idUser));
+
+        user.setEnabled(false);
+        userRepository.save(user);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.USER, ChangeType.UPDATED, idUser));
+    }
+
+    /**
+     * Reemplaza los permisos de un rol. Si cambian, incrementa la versión de seguridad de todos los usuarios que
+     * tienen el rol, de modo que los tokens emitidos con los permisos anteriores dejan de aceptarse en cuanto se
+     * confirma el cambio.
+     *
+     * @param idRole                    ID del rol.
+     * @param rolePermissionsRequestDTO nombres de los permisos que tendrá el rol.
+     * @return número de usuarios cuyos tokens se invalidaron.
+     * @throws ResourceNotFoundException si el rol no existe.
+     * @throws BadRequestException       si algún permiso no existe.
+     */
+    @Transactional
+    public int updateRolePermissions(Long idRole, RolePermissionsRequestDTO rolePermissionsRequestDTO) {
+        Role role = roleRepository.findById(idRole)
+                .orElseThrow(() -> new ResourceNotFoundException("No se encuentra el rol con Id: " + idRole));
+
+        Set<String> names = rolePermissionsRequestDTO.permissions();
+        Set<Permission> permissions = new HashSet<>(permissionRepository.findByNameIn(names));
+        if (permissions.size() != names.size()) {
+            Set<String> missing = new HashSet<>(names);
+            permissions.forEach(permission -> missing.remove(permission.getName()));
+            throw new BadRequestException("Los permisos especificados no existen: " + missing);
+        }
+        if (permissions.equals(role.getPermissions())) {
+            return 0;
+        }
+
+        role.setPermissions(permissions);
+        roleRepository.save(role);
+        int affected = userRepository.bumpSecurityVersionByRole(idRole);
+        eventPublisher.publishEvent(new CatalogChangedEvent(CatalogType.ROLE, ChangeType.UPDATED, idRole));
+        return affected;
+    }
+
 }
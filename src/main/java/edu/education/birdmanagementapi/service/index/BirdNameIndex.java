@@ -0,0 +1,473 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.config.ReadFromPrimary;
+import edu.education.birdmanagementapi.domain.dto.response.BirdSuggestionResponseDTO;
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
+import edu.education.birdmanagementapi.domain.projection.BirdNameProjection;
+import edu.education.birdmanagementapi.repository.BirdRepository;
+import edu.education.birdmanagementapi.util.TextNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria de los nombres común y científico de las aves.
+ * <p>
+ * Las búsquedas por subcadena se resuelven con un índice invertido de trigramas: cada trigrama del nombre
+ * normalizado (con un espacio de relleno a cada lado) apunta al conjunto de aves que lo contienen, y una consulta
+ * intersecta las listas de sus trigramas empezando por la más corta. Los candidatos se verifican contra el nombre
+ * normalizado, sin acceder a la base de datos. La normalización elimina tildes, así que "colibri" encuentra
+ * "Colibrí".
+ * <p>
+ * Cada ave guarda además las claves fonéticas en español de sus nombres y de sus palabras
+ * ({@link TextNormalizer#phoneticKey}), indexadas en un mapa hash: las grafías que suenan igual ("Garsa Blanka")
+ * se resuelven con una sola consulta al mapa.
+ * <p>
+ * El autocompletado usa un conjunto ordenado de prefijos con cada nombre normalizado y cada sufijo que empieza en
+ * una palabra; el rango de un prefijo se localiza en tiempo logarítmico. El conjunto se actualiza en cada alta o
+ * baja bajo el mismo bloqueo de escritura que el resto del índice, sin reconstrucciones completas.
+ * <p>
+ * La búsqueda tolerante a errores usa un {@link BkTree} sobre los nombres completos y sus palabras, de modo que
+ * solo se calcula la distancia de edición contra los nodos que la desigualdad triangular no permite descartar.
+ * <p>
+ * Se carga antes de que el servidor web acepte peticiones, de modo que una búsqueda nunca ve el índice vacío, y
+ * se actualiza con {@link CatalogChangedEvent} después de cada commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BirdNameIndex implements SmartInitializingSingleton {
+
+    private static final int GRAM = 3;
+    private static final int PHONETIC_RANK = 4;
+    private static final int MIN_FUZZY_WORD_LENGTH = 4;
+    private static final int MIN_TOMBSTONES_TO_REBUILD = 64;
+
+    private final BirdRepository birdRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<String, Set<Long>> phonetic = new HashMap<>();
+    private final BkTree fuzzyTree = new BkTree();
+    private final NavigableSet<PrefixKey> prefixes = new TreeSet<>(Comparator.comparing(PrefixKey::key)
+            .thenComparingLong(PrefixKey::idBird)
+            .thenComparing(PrefixKey::wordStart));
+
+    /**
+     * Clave de autocompletado con el ave a la que pertenece y si la clave empieza a mitad del nombre.
+     */
+    private record PrefixKey(String key, long idBird, boolean wordStart) {
+    }
+
+    private record Entry(Long idBird, String commonName, String scientificName, String normalizedCommon,
+                         String normalizedScientific, Set<String> phoneticKeys) {
+    }
+
+    private record Match(Long idBird, int rank, int length, String commonName) {
+    }
+
+    /**
+     * Carga el índice cuando ya existen todos los singletons y antes de arrancar el servidor web.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Carga los nombres de todas las aves. Se ejecuta fuera de una transacción de solo lectura, así que lee del
+     * primario.
+     */
+    public void load() {
+        long start = System.currentTimeMillis();
+        reload();
+        log.info("Índice de nombres de aves cargado: {} aves en {} ms", size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Mantiene el índice sincronizado con los cambios confirmados del catálogo de aves.
+     * Eliminar una familia elimina en cascada sus aves, por lo que se recarga el índice completo. Se lee del
+     * primario: una réplica retrasada devolvería el ave anterior al cambio.
+     *
+     * @param event cambio de catálogo
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @ReadFromPrimary
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.catalogType() == CatalogType.FAMILY && event.changeType() == ChangeType.DELETED) {
+            reload();
+        } else if (event.catalogType() == CatalogType.BIRD) {
+            if (event.changeType() == ChangeType.DELETED) {
+                remove(event.id());
+            } else {
+                birdRepository.findNamesById(event.id())
+                        .ifPresentOrElse(this::upsert, () -> remove(event.id()));
+            }
+        }
+    }
+
+    /**
+     * Inserta o reemplaza los nombres de un ave.
+     */
+    public void upsert(BirdNameProjection bird) {
+        lock.writeLock().lock();
+        try {
+            upsertLocked(bird);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un ave del índice.
+     */
+    public void remove(Long idBird) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(idBird);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca las aves cuyo nombre común o científico contiene el texto indicado.
+     * Se ordenan por coincidencia exacta, prefijo del nombre, prefijo de una palabra, subcadena y, por último,
+     * coincidencia fonética con el nombre o una de sus palabras; a igualdad, por longitud del nombre coincidente
+     * y nombre común.
+     *
+     * @param query texto a buscar
+     * @return IDs de las aves coincidentes, ordenados por relevancia
+     */
+    public List<Long> search(String query) {
+        String normalized = TextNormalizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Match> matches = new ArrayList<>();
+            for (Long idBird : candidates(normalized)) {
+                Match match = match(entries.get(idBird), normalized);
+                if (match != null) {
+                    matches.add(match);
+                }
+            }
+            Set<Long> sounding = phonetic.getOrDefault(TextNormalizer.phoneticKey(normalized), Set.of());
+            if (!sounding.isEmpty()) {
+                Set<Long> matched = new HashSet<>();
+                matches.forEach(match -> matched.add(match.idBird()));
+                for (Long idBird : sounding) {
+                    Entry entry = entries.get(idBird);
+                    if (!matched.contains(idBird)) {
+                        matches.add(new Match(idBird, PHONETIC_RANK, entry.normalizedCommon().length(),
+                                entry.commonName()));
+                    }
+                }
+            }
+            matches.sort(Comparator.comparingInt(Match::rank)
+                    .thenComparingInt(Match::length)
+                    .thenComparing(Match::commonName)
+                    .thenComparing(Match::idBird));
+            List<Long> ids = new ArrayList<>(matches.size());
+            matches.forEach(match -> ids.add(match.idBird()));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca las aves con algún nombre, o palabra de un nombre, a distancia de Levenshtein menor o igual que
+     * {@code maxDistance} del texto indicado. Se ordenan por distancia y nombre común.
+     *
+     * @param query       texto a buscar, posiblemente con errores de escritura
+     * @param maxDistance número máximo de ediciones permitidas
+     * @return IDs de las aves coincidentes, ordenados por cercanía
+     */
+    public List<Long> searchFuzzy(String query, int maxDistance) {
+        String normalized = TextNormalizer.normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> distances = new HashMap<>();
+            fuzzyTree.search(normalized, maxDistance, (idBird, distance) -> distances.merge(idBird, distance, Math::min));
+            List<Long> ids = new ArrayList<>(distances.keySet());
+            ids.sort(Comparator.<Long>comparingInt(distances::get)
+                    .thenComparing(idBird -> entries.get(idBird).commonName())
+                    .thenComparing(Comparator.naturalOrder()));
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sugiere aves cuyo nombre (o alguna de sus palabras) empieza por el prefijo indicado.
+     * Primero se devuelven las coincidencias al inicio del nombre y luego las de palabras internas,
+     * en orden alfabético dentro de cada grupo.
+     *
+     * @param prefix prefijo escrito por el usuario
+     * @param limit  número máximo de sugerencias
+     * @return sugerencias sin duplicados
+     */
+    public List<BirdSuggestionResponseDTO> suggest(String prefix, int limit) {
+        String normalized = TextNormalizer.normalize(prefix);
+        if (normalized.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            NavigableSet<PrefixKey> range = prefixes.tailSet(new PrefixKey(normalized, Long.MIN_VALUE, false), true);
+            List<BirdSuggestionResponseDTO> suggestions = new ArrayList<>(limit);
+            collect(range, normalized, false, limit, suggestions);
+            collect(range, normalized, true, limit, suggestions);
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void collect(NavigableSet<PrefixKey> range, String prefix, boolean wordStart, int limit,
+                         List<BirdSuggestionResponseDTO> suggestions) {
+        for (PrefixKey prefixKey : range) {
+            if (suggestions.size() >= limit || !prefixKey.key().startsWith(prefix)) {
+                return;
+            }
+            if (prefixKey.wordStart() != wordStart || contains(suggestions, prefixKey.idBird())) {
+                continue;
+            }
+            Entry entry = entries.get(prefixKey.idBird());
+            suggestions.add(new BirdSuggestionResponseDTO(entry.idBird(), entry.commonName(),
+                    entry.scientificName()));
+        }
+    }
+
+    private static boolean contains(List<BirdSuggestionResponseDTO> suggestions, long idBird) {
+        for (BirdSuggestionResponseDTO suggestion : suggestions) {
+            if (suggestion.idBird() == idBird) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reload() {
+        List<BirdNameProjection> birds = birdRepository.findAllNames();
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            postings.clear();
+            phonetic.clear();
+            fuzzyTree.clear();
+            prefixes.clear();
+            birds.forEach(this::upsertLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void upsertLocked(BirdNameProjection bird) {
+        removeLocked(bird.idBird());
+        Entry entry = new Entry(bird.idBird(), bird.commonName(), bird.scientificName(),
+                TextNormalizer.normalize(bird.commonName()), TextNormalizer.normalize(bird.scientificName()),
+                phoneticKeys(bird));
+        entries.put(bird.idBird(), entry);
+        prefixes.addAll(prefixKeys(entry));
+        for (String gram : grams(entry)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(bird.idBird());
+        }
+        for (String key : entry.phoneticKeys()) {
+            phonetic.computeIfAbsent(key, k -> new HashSet<>()).add(bird.idBird());
+        }
+        for (String term : fuzzyTerms(entry)) {
+            fuzzyTree.add(term, bird.idBird());
+        }
+    }
+
+    private void removeLocked(Long idBird) {
+        Entry previous = entries.remove(idBird);
+        if (previous == null) {
+            return;
+        }
+        prefixKeys(previous).forEach(prefixes::remove);
+        for (String gram : grams(previous)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null && ids.remove(idBird) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+        for (String key : previous.phoneticKeys()) {
+            Set<Long> ids = phonetic.get(key);
+            if (ids != null && ids.remove(idBird) && ids.isEmpty()) {
+                phonetic.remove(key);
+            }
+        }
+        for (String term : fuzzyTerms(previous)) {
+            fuzzyTree.remove(term, idBird);
+        }
+        if (fuzzyTree.tombstones() >= MIN_TOMBSTONES_TO_REBUILD && fuzzyTree.tombstones() * 2 > fuzzyTree.nodes()) {
+            rebuildFuzzyTree();
+        }
+    }
+
+    /**
+     * Reconstruye el árbol BK sin los nodos que quedaron vacíos tras las eliminaciones.
+     */
+    private void rebuildFuzzyTree() {
+        fuzzyTree.clear();
+        for (Entry entry : entries.values()) {
+            for (String term : fuzzyTerms(entry)) {
+                fuzzyTree.add(term, entry.idBird());
+            }
+        }
+    }
+
+    /**
+     * Claves fonéticas de los dos nombres completos y de cada una de sus palabras.
+     */
+    private static Set<String> phoneticKeys(BirdNameProjection bird) {
+        Set<String> keys = new HashSet<>();
+        for (String name : List.of(bird.commonName(), bird.scientificName())) {
+            String key = TextNormalizer.phoneticKey(name);
+            if (!key.isEmpty()) {
+                keys.add(key);
+                keys.addAll(List.of(key.split(" ")));
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Claves de autocompletado: cada nombre completo y cada sufijo que empieza en una de sus palabras.
+     */
+    private static List<PrefixKey> prefixKeys(Entry entry) {
+        List<PrefixKey> keys = new ArrayList<>();
+        for (String name : List.of(entry.normalizedCommon(), entry.normalizedScientific())) {
+            for (int i = 0; i < name.length(); i++) {
+                if (i == 0 || name.charAt(i - 1) == ' ') {
+                    keys.add(new PrefixKey(name.substring(i), entry.idBird(), i > 0));
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Términos del árbol BK: los dos nombres completos y cada palabra suficientemente larga para que
+     * la tolerancia a errores no la confunda con otras.
+     */
+    private static Set<String> fuzzyTerms(Entry entry) {
+        Set<String> terms = new HashSet<>();
+        for (String name : List.of(entry.normalizedCommon(), entry.normalizedScientific())) {
+            terms.add(name);
+            for (String word : name.split(" ")) {
+                if (word.length() >= MIN_FUZZY_WORD_LENGTH) {
+                    terms.add(word);
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Candidatos a contener {@code query}: intersección de las listas de sus trigramas, o, para consultas más
+     * cortas que un trigrama, unión de las listas de los trigramas que contienen la consulta.
+     */
+    private Collection<Long> candidates(String query) {
+        if (query.length() < GRAM) {
+            Set<Long> union = new HashSet<>();
+            postings.forEach((gram, ids) -> {
+                if (gram.contains(query)) {
+                    union.addAll(ids);
+                }
+            });
+            return union;
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (int i = 0; i + GRAM <= query.length(); i++) {
+            Set<Long> ids = postings.get(query.substring(i, i + GRAM));
+            if (ids == null) {
+                return List.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        List<Long> result = new ArrayList<>();
+        Set<Long> smallest = lists.get(0);
+        for (Long idBird : smallest) {
+            boolean inAll = true;
+            for (int i = 1; i < lists.size() && inAll; i++) {
+                inAll = lists.get(i).contains(idBird);
+            }
+            if (inAll) {
+                result.add(idBird);
+            }
+        }
+        return result;
+    }
+
+    private static Match match(Entry entry, String query) {
+        int commonRank = rank(entry.normalizedCommon(), query);
+        int scientificRank = rank(entry.normalizedScientific(), query);
+        if (commonRank == Integer.MAX_VALUE && scientificRank == Integer.MAX_VALUE) {
+            return null;
+        }
+        int length = commonRank <= scientificRank
+                ? entry.normalizedCommon().length()
+                : entry.normalizedScientific().length();
+        return new Match(entry.idBird(), Math.min(commonRank, scientificRank), length, entry.commonName());
+    }
+
+    private static int rank(String name, String query) {
+        if (name.equals(query)) {
+            return 0;
+        }
+        if (name.startsWith(query)) {
+            return 1;
+        }
+        int index = name.indexOf(query);
+        if (index < 0) {
+            return Integer.MAX_VALUE;
+        }
+        return name.charAt(index - 1) == ' ' ? 2 : 3;
+    }
+
+    private static Set<String> grams(Entry entry) {
+        Set<String> grams = new HashSet<>();
+        addGrams(grams, entry.normalizedCommon());
+        addGrams(grams, entry.normalizedScientific());
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String name) {
+        String padded = " " + name + " ";
+        for (int i = 0; i + GRAM <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package edu.education.birdmanagementapi.service.index;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Árbol BK sobre la distancia de Levenshtein, con los IDs de las aves asociadas a cada término.
+ * <p>
+ * Por la desigualdad triangular, una búsqueda con distancia máxima {@code k} solo desciende a los hijos cuya
+ * arista está en {@code [d - k, d + k]}, siendo {@code d} la distancia al nodo actual; el resto del árbol se poda.
+ * Las eliminaciones dejan el nodo sin IDs (lápida) para no reorganizar el árbol; el propietario lo reconstruye
+ * cuando las lápidas dominan. No es seguro para hilos: el acceso se sincroniza desde {@link BirdNameIndex}.
+ */
+final class BkTree {
+
+    private Node root;
+    private int nodes;
+    private int tombstones;
+
+    private static final class Node {
+        private final String term;
+        private final Set<Long> ids = new HashSet<>(2);
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+
+    /**
+     * Recibe cada ave encontrada junto con la distancia del término que coincidió.
+     */
+    @FunctionalInterface
+    interface MatchConsumer {
+        void accept(Long idBird, int distance);
+    }
+
+    void add(String term, Long idBird) {
+        if (root == null) {
+            root = new Node(term);
+            root.ids.add(idBird);
+            nodes++;
+            return;
+        }
+        int[] previous = new int[term.length() + 1];
+        int[] current = new int[term.length() + 1];
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term, previous, current);
+            if (distance == 0) {
+                if (node.ids.isEmpty()) {
+                    tombstones--;
+                }
+                node.ids.add(idBird);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(term);
+                child.ids.add(idBird);
+                node.children.put(distance, child);
+                nodes++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    void remove(String term, Long idBird) {
+        int[] previous = new int[term.length() + 1];
+        int[] current = new int[term.length() + 1];
+        Node node = root;
+        while (node != null) {
+            int distance = distance(term, node.term, previous, current);
+            if (distance == 0) {
+                if (node.ids.remove(idBird) && node.ids.isEmpty()) {
+                    tombstones++;
+                }
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    /**
+     * Recorre los términos a distancia menor o igual que {@code maxDistance} de {@code query}.
+     */
+    void search(String query, int maxDistance, MatchConsumer consumer) {
+        if (root == null) {
+            return;
+        }
+        int[] previous = new int[query.length() + 1];
+        int[] current = new int[query.length() + 1];
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.term, previous, current);
+            if (distance <= maxDistance) {
+                for (Long idBird : node.ids) {
+                    consumer.accept(idBird, distance);
+                }
+            }
+            for (int edge = Math.max(1, distance - maxDistance); edge <= distance + maxDistance; edge++) {
+                Node child = node.children.get(edge);
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        root = null;
+        nodes = 0;
+        tombstones = 0;
+    }
+
+    int nodes() {
+        return nodes;
+    }
+
+    int tombstones() {
+        return tombstones;
+    }
+
+    /**
+     * Distancia de Levenshtein con dos filas reutilizables de longitud {@code query.length() + 1}.
+     */
+    private static int distance(String query, String term, int[] previous, int[] current) {
+        for (int i = 0; i <= query.length(); i++) {
+            previous[i] = i;
+        }
+        for (int j = 1; j <= term.length(); j++) {
+            current[0] = j;
+            char c = term.charAt(j - 1);
+            for (int i = 1; i <= query.length(); i++) {
+                int substitution = previous[i - 1] + (query.charAt(i - 1) == c ? 0 : 1);
+                current[i] = Math.min(substitution, Math.min(previous[i], current[i - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[query.length()];
+    }
+}
@@ -0,0 +1,123 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.dto.response.BirdResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.FamilyResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.HabitatResponseDTO;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
+import edu.education.birdmanagementapi.util.BoundedCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caché de lectura de las respuestas ya mapeadas de aves, familias y hábitats consultados individualmente.
+ * <p>
+ * Cada caché está acotada por tamaño y caducidad, y publica sus aciertos, fallos y tamaño como métricas
+ * ({@code catalog.cache.*} con la etiqueta {@code cache}). Las entradas se descartan con precisión después del
+ * commit de cada cambio: la respuesta de un ave guarda los IDs de su familia y hábitats, así que modificar una
+ * familia o un hábitat solo descarta las aves que lo muestran. Los fallos se cargan en la transacción de solo
+ * lectura del servicio; tras un cambio en esta instancia, la ventana de lectura desde el primario de
+ * {@link edu.education.birdmanagementapi.config.ReplicaRoutingDataSource} evita volver a guardar, desde una réplica
+ * retrasada, la versión que se acaba de descartar.
+ */
+@Component
+public class CatalogResponseCache {
+
+    private final BoundedCache<Long, CachedBird> birds;
+    private final BoundedCache<Long, FamilyResponseDTO> families;
+    private final BoundedCache<String, FamilyResponseDTO> familiesByName;
+    private final BoundedCache<Long, HabitatResponseDTO> habitats;
+    private final BoundedCache<String, HabitatResponseDTO> habitatsByName;
+
+    /**
+     * Respuesta de un ave junto con las referencias que contiene.
+     */
+    public record CachedBird(BirdResponseDTO response, Long idFamily, Set<Long> idHabitats) {
+    }
+
+    public CatalogResponseCache(MeterRegistry meterRegistry,
+                                @Value("${catalog-cache.max-size:1000}") int maxSize,
+                                @Value("${catalog-cache.ttl:PT10M}") Duration ttl) {
+        this.birds = register(meterRegistry, "birds", new BoundedCache<>(maxSize, ttl));
+        this.families = register(meterRegistry, "families", new BoundedCache<>(maxSize, ttl));
+        this.familiesByName = register(meterRegistry, "families-by-name", new BoundedCache<>(maxSize, ttl));
+        this.habitats = register(meterRegistry, "habitats", new BoundedCache<>(maxSize, ttl));
+        this.habitatsByName = register(meterRegistry, "habitats-by-name", new BoundedCache<>(maxSize, ttl));
+    }
+
+    public BirdResponseDTO getBird(Long idBird, Supplier<CachedBird> loader) {
+        return birds.get(idBird, loader).response();
+    }
+
+    /**
+     * Devuelve las respuestas de varias aves, cargando las ausentes con una sola llamada a {@code loader}.
+     */
+    public Map<Long, CachedBird> getBirds(Collection<Long> ids, Function<Set<Long>, Map<Long, CachedBird>> loader) {
+        return birds.getAll(ids, loader);
+    }
+
+    public FamilyResponseDTO getFamily(Long idFamily, Supplier<FamilyResponseDTO> loader) {
+        return families.get(idFamily, loader);
+    }
+
+    public FamilyResponseDTO getFamilyByName(String name, Supplier<FamilyResponseDTO> loader) {
+        return familiesByName.get(name, loader);
+    }
+
+    public HabitatResponseDTO getHabitat(Long idHabitat, Supplier<HabitatResponseDTO> loader) {
+        return habitats.get(idHabitat, loader);
+    }
+
+    public HabitatResponseDTO getHabitatByName(String name, Supplier<HabitatResponseDTO> loader) {
+        return habitatsByName.get(name, loader);
+    }
+
+    /**
+     * Descarta las respuestas afectadas por un cambio confirmado en un catálogo.
+     *
+     * @param event cambio de catálogo
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Long id = event.id();
+        switch (event.catalogType()) {
+            case BIRD -> birds.invalidate(id);
+            case FAMILY -> {
+                families.invalidate(id);
+                familiesByName.invalidateIf((name, family) -> id.equals(family.idFamily()));
+                birds.invalidateIf((idBird, bird) -> id.equals(bird.idFamily()));
+            }
+            case HABITAT -> {
+                habitats.invalidate(id);
+                habitatsByName.invalidateIf((name, habitat) -> id.equals(habitat.idHabitat()));
+                birds.invalidateIf((idBird, bird) -> bird.idHabitats().contains(id));
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static <K, V> BoundedCache<K, V> register(MeterRegistry meterRegistry, String name,
+                                                      BoundedCache<K, V> cache) {
+        FunctionCounter.builder("catalog.cache.hits", cache, BoundedCache::hitCount)
+                .tag("cache", name)
+                .register(meterRegistry);
+        FunctionCounter.builder("catalog.cache.misses", cache, BoundedCache::missCount)
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("catalog.cache.size", cache, BoundedCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+        return cache;
+    }
+}
@@ -0,0 +1,139 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
+import edu.education.birdmanagementapi.repository.CatalogVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Versión por catálogo para servir ETags fuertes de los listados completos.
+ * <p>
+ * Las versiones se guardan en {@code catalog_versions}, así que todas las instancias ven las mismas: un cambio
+ * hecho en un nodo invalida los ETags que sirven los demás. Cada transacción que modifica un catálogo incrementa
+ * su versión justo antes del commit, una sola vez por catálogo, de modo que la versión y los datos se confirman
+ * juntos y el bloqueo de la fila dura solo lo que dura el commit. La primera versión de un catálogo es el instante
+ * en que se crea la fila, para no reutilizar las versiones de una base de datos anterior.
+ * <p>
+ * Los listados de aves incluyen el nombre de la familia y de los hábitats, así que cambiar una familia o un hábitat
+ * también incrementa la versión de aves.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionRegistry {
+
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    /**
+     * Listado junto con el ETag de la versión con la que se leyó.
+     */
+    public record Versioned<T>(String etag, T data) {
+    }
+
+    /**
+     * Anota los catálogos afectados por el cambio para incrementar su versión antes del commit de la transacción
+     * que lo publica. Fuera de una transacción la versión se incrementa de inmediato.
+     *
+     * @param event cambio de catálogo
+     */
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        Set<CatalogType> affected = EnumSet.of(event.catalogType());
+        if (event.catalogType() == CatalogType.FAMILY || event.catalogType() == CatalogType.HABITAT) {
+            affected.add(CatalogType.BIRD);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            affected.forEach(this::increment);
+            return;
+        }
+        PendingIncrements pending = TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(PendingIncrements.class::isInstance)
+                .map(PendingIncrements.class::cast)
+                .findFirst()
+                .orElseGet(() -> {
+                    PendingIncrements created = new PendingIncrements();
+                    TransactionSynchronizationManager.registerSynchronization(created);
+                    return created;
+                });
+        pending.catalogs.addAll(affected);
+    }
+
+    /**
+     * ETag fuerte de la versión actual del listado completo del catálogo.
+     *
+     * @param type catálogo
+     * @return ETag entre comillas
+     */
+    @Transactional(readOnly = true)
+    public String etag(CatalogType type) {
+        return etag(type, catalogVersionRepository.findVersion(type).orElse(0L));
+    }
+
+    /**
+     * Lee la versión del catálogo y después el listado, en la misma transacción de solo lectura (y por tanto en la
+     * misma base de datos, primario o réplica). Si un cambio se confirma durante la lectura, el listado puede ser
+     * más nuevo que el ETag, nunca más antiguo: el cliente volverá a descargarlo.
+     *
+     * @param type   catálogo
+     * @param reader lectura del listado
+     * @return listado y ETag
+     */
+    @Transactional(readOnly = true)
+    public <T> Versioned<T> read(CatalogType type, Supplier<T> reader) {
+        String etag = etag(type);
+        return new Versioned<>(etag, reader.get());
+    }
+
+    /**
+     * Indica si la cabecera {@code If-None-Match} contiene el ETag actual (o {@code *}).
+     *
+     * @param ifNoneMatch valor de la cabecera, puede ser {@code null}
+     * @param etag        ETag actual
+     * @return {@code true} si el cliente ya tiene esta versión
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void increment(CatalogType type) {
+        catalogVersionRepository.increment(type.name(), System.currentTimeMillis());
+    }
+
+    private static String etag(CatalogType type, long version) {
+        return "\"" + type.name().toLowerCase(Locale.ROOT) + "-" + version + "\"";
+    }
+
+    /**
+     * Catálogos modificados en la transacción actual, pendientes de incrementar antes del commit.
+     */
+    private final class PendingIncrements implements TransactionSynchronization {
+
+        private final Set<CatalogType> catalogs = EnumSet.noneOf(CatalogType.class);
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            catalogs.forEach(CatalogVersionRegistry.this::increment);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.dto.response.HeatmapTileResponseDTO;
+import edu.education.birdmanagementapi.domain.event.SightingChangedEvent;
+import edu.education.birdmanagementapi.util.BoundedCache;
+import edu.education.birdmanagementapi.util.TileUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Caché LRU de teselas de mapa de calor.
+ * Una tesela permanece en caché hasta que cambia un avistamiento cuya posición (actual o anterior) cae dentro
+ * de ella.
+ * <p>
+ * Las entradas se agrupan por tesela z/x/y, con las variantes de filtros (ave, fechas) de cada una en un LRU
+ * pequeño. Así un cambio calcula directamente la tesela que contiene el punto en cada nivel de zoom y la descarta,
+ * sin recorrer la caché.
+ */
+@Component
+public class HeatmapTileCache {
+
+    /**
+     * Distancia (en fracción de tesela) a un borde por debajo de la cual el punto se considera también de la
+     * tesela vecina; los límites de las teselas incluyen sus bordes.
+     */
+    private static final double EDGE_EPSILON = 1e-6;
+
+    private final BoundedCache<Tile, Map<Filters, HeatmapTileResponseDTO>> tiles;
+    private final int maxVariantsPerTile;
+
+    /**
+     * Identifica una tesela calculada con unos filtros concretos.
+     */
+    public record Key(int z, int x, int y, Long idBird, LocalDateTime from, LocalDateTime to) {
+    }
+
+    private record Tile(int z, int x, int y) {
+    }
+
+    private record Filters(Long idBird, LocalDateTime from, LocalDateTime to) {
+    }
+
+    public HeatmapTileCache(@Value("${sightings.heatmap.cache-size:2000}") int maxSize,
+                            @Value("${sightings.heatmap.variants-per-tile:8}") int maxVariantsPerTile) {
+        this.tiles = new BoundedCache<>(maxSize, null);
+        this.maxVariantsPerTile = maxVariantsPerTile;
+    }
+
+    /**
+     * Devuelve la tesela en caché o la calcula con {@code loader}.
+     */
+    public HeatmapTileResponseDTO get(Key key, Supplier<HeatmapTileResponseDTO> loader) {
+        Map<Filters, HeatmapTileResponseDTO> variants = tiles.get(new Tile(key.z(), key.x(), key.y()),
+                this::newVariants);
+        Filters filters = new Filters(key.idBird(), key.from(), key.to());
+        HeatmapTileResponseDTO cached;
+        synchronized (variants) {
+            cached = variants.get(filters);
+        }
+        if (cached != null) {
+            return cached;
+        }
+        // Si la tesela se invalida durante la carga, este mapa ya no está en la caché y el valor se descarta
+        HeatmapTileResponseDTO loaded = loader.get();
+        if (loaded != null) {
+            synchronized (variants) {
+                variants.put(filters, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Descarta las teselas que contienen la posición actual o anterior del avistamiento modificado.
+     *
+     * @param event cambio de avistamiento
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingChangedEvent event) {
+        invalidatePoint(event.latitude(), event.longitude());
+        invalidatePoint(event.previousLatitude(), event.previousLongitude());
+    }
+
+    public int size() {
+        return tiles.size();
+    }
+
+    private void invalidatePoint(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null || Math.abs(latitude) > TileUtils.MAX_LATITUDE
+                || Math.abs(longitude) > 180) {
+            return;
+        }
+        for (int z = 0; z <= TileUtils.MAX_ZOOM; z++) {
+            int tileCount = 1 << z;
+            double tileX = TileUtils.tileX(longitude, z);
+            double tileY = TileUtils.tileY(latitude, z);
+            int x = Math.min((int) Math.floor(tileX), tileCount - 1);
+            int y = Math.min((int) Math.floor(tileY), tileCount - 1);
+            for (int dx = -1; dx <= 1; dx++) {
+                if (!touches(tileX, x + dx, tileCount)) {
+                    continue;
+                }
+                for (int dy = -1; dy <= 1; dy++) {
+                    if (touches(tileY, y + dy, tileCount)) {
+                        tiles.invalidate(new Tile(z, x + dx, y + dy));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Indica si la posición fraccionaria cae dentro de la columna/fila {@code index}, bordes incluidos.
+     */
+    private static boolean touches(double position, int index, int tileCount) {
+        return index >= 0 && index < tileCount
+                && position >= index - EDGE_EPSILON && position <= index + 1 + EDGE_EPSILON;
+    }
+
+    private Map<Filters, HeatmapTileResponseDTO> newVariants() {
+        return new LinkedHashMap<>(4, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Filters, HeatmapTileResponseDTO> eldest) {
+                return size() > maxVariantsPerTile;
+            }
+        };
+    }
+}
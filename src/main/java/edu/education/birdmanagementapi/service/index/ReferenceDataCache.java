@@ -0,0 +1,90 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
+import edu.education.birdmanagementapi.repository.BirdRepository;
+import edu.education.birdmanagementapi.repository.CountryRepository;
+import edu.education.birdmanagementapi.repository.HabitatRepository;
+import edu.education.birdmanagementapi.repository.UserRepository;
+import edu.education.birdmanagementapi.util.BoundedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Caché acotada de los datos de referencia que usa el registro de avistamientos: para cada país, ave, hábitat
+ * y usuario conocido guarda su nombre, lo que prueba que el ID existe y permite construir la respuesta
+ * sin volver a consultar la base de datos.
+ * <p>
+ * Se consulta desde las transacciones de escritura de los avistamientos, así que los fallos se cargan del primario.
+ * Solo se almacenan IDs existentes. Las entradas se invalidan con {@link CatalogChangedEvent} después del commit;
+ * eliminar una familia elimina en cascada sus aves, por lo que vacía la caché de aves.
+ */
+@Component
+public class ReferenceDataCache {
+
+    private final CountryRepository countryRepository;
+    private final BirdRepository birdRepository;
+    private final HabitatRepository habitatRepository;
+    private final UserRepository userRepository;
+
+    private final BoundedCache<Long, String> countries;
+    private final BoundedCache<Long, String> birds;
+    private final BoundedCache<Long, String> habitats;
+    private final BoundedCache<Long, String> users;
+
+    public ReferenceDataCache(CountryRepository countryRepository, BirdRepository birdRepository,
+                              HabitatRepository habitatRepository, UserRepository userRepository,
+                              @Value("${reference-cache.max-size:10000}") int maxSize) {
+        this.countryRepository = countryRepository;
+        this.birdRepository = birdRepository;
+        this.habitatRepository = habitatRepository;
+        this.userRepository = userRepository;
+        this.countries = new BoundedCache<>(maxSize, null);
+        this.birds = new BoundedCache<>(maxSize, null);
+        this.habitats = new BoundedCache<>(maxSize, null);
+        this.users = new BoundedCache<>(maxSize, null);
+    }
+
+    public Optional<String> findCountryName(Long idCountry) {
+        return Optional.ofNullable(countries.get(idCountry,
+                () -> countryRepository.findNameById(idCountry).orElse(null)));
+    }
+
+    public Optional<String> findBirdName(Long idBird) {
+        return Optional.ofNullable(birds.get(idBird,
+                () -> birdRepository.findNameById(idBird).orElse(null)));
+    }
+
+    public Optional<String> findHabitatName(Long idHabitat) {
+        return Optional.ofNullable(habitats.get(idHabitat,
+                () -> habitatRepository.findNameById(idHabitat).orElse(null)));
+    }
+
+    public Optional<String> findUserName(Long idUser) {
+        return Optional.ofNullable(users.get(idUser,
+                () -> userRepository.findNameById(idUser).orElse(null)));
+    }
+
+    /**
+     * Descarta las entradas afectadas por un cambio confirmado en un catálogo.
+     *
+     * @param event cambio de catálogo
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        switch (event.catalogType()) {
+            case COUNTRY -> countries.invalidate(event.id());
+            case BIRD -> birds.invalidate(event.id());
+            case HABITAT -> habitats.invalidate(event.id());
+            case USER -> users.invalidate(event.id());
+            case FAMILY -> {
+                if (event.changeType() == ChangeType.DELETED) {
+                    birds.invalidateAll();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.dto.response.NearestSightingResponseDTO;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.SightingChangedEvent;
+import edu.education.birdmanagementapi.repository.SightingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice espacial en memoria para consultas de k vecinos más cercanos sobre avistamientos.
+ * <p>
+ * Mantiene una rejilla de celdas de {@value #CELL_DEGREES}° con coordenadas en arreglos primitivos,
+ * una global y otra por ave. La búsqueda recorre anillos de celdas alrededor del punto consultado y se detiene
+ * cuando la cota inferior de distancia de las celdas no visitadas supera al k-ésimo candidato.
+ * Se carga antes de que el servidor web acepte peticiones, de modo que una búsqueda nunca ve el índice a medio
+ * construir, y se actualiza con {@link SightingChangedEvent} después de cada commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SightingSpatialIndex implements SmartInitializingSingleton {
+
+    private static final double CELL_DEGREES = 0.5;
+    private static final int ROWS = (int) (180 / CELL_DEGREES);
+    private static final int COLS = (int) (360 / CELL_DEGREES);
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private final SightingRepository sightingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Grid allBirds = new Grid();
+    private final Map<Long, Grid> gridsByBird = new HashMap<>();
+    private final Map<Long, Location> locations = new HashMap<>();
+
+    private record Location(Long idBird, int cellKey) {
+    }
+
+    private record Candidate(long idSighting, long idBird, double latitude, double longitude, double distanceKm) {
+    }
+
+    /**
+     * Carga el índice cuando ya existen todos los singletons y antes de arrancar el servidor web.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    /**
+     * Carga todos los avistamientos con coordenadas.
+     */
+    public void load() {
+        long start = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (var points = sightingRepository.streamAllPoints()) {
+                points.forEach(point -> upsert(point.idSighting(), point.idBird(), point.latitude(),
+                        point.longitude()));
+            }
+        });
+        log.info("Índice espacial de avistamientos cargado: {} puntos en {} ms", size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Mantiene el índice sincronizado con los cambios confirmados en base de datos.
+     *
+     * @param event cambio de avistamiento
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSightingChanged(SightingChangedEvent event) {
+        if (event.changeType() == ChangeType.DELETED) {
+            remove(event.idSighting());
+        } else {
+            upsert(event.idSighting(), event.idBird(), event.latitude(), event.longitude());
+        }
+    }
+
+    /**
+     * Inserta o reubica un avistamiento en el índice. Si no tiene coordenadas se elimina.
+     */
+    public void upsert(Long idSighting, Long idBird, Double latitude, Double longitude) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(idSighting);
+            if (latitude == null || longitude == null) {
+                return;
+            }
+            int cellKey = cellKey(latitude, longitude);
+            allBirds.add(cellKey, idSighting, idBird, latitude, longitude);
+            gridsByBird.computeIfAbsent(idBird, id -> new Grid())
+                    .add(cellKey, idSighting, idBird, latitude, longitude);
+            locations.put(idSighting, new Location(idBird, cellKey));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un avistamiento del índice.
+     */
+    public void remove(Long idSighting) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(idSighting);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Número de puntos indexados.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return locations.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca los k avistamientos más cercanos (distancia de gran círculo) a un punto.
+     *
+     * @param latitude  latitud del punto
+     * @param longitude longitud del punto
+     * @param k         número de vecinos
+     * @param idBird    ave a filtrar, o {@code null} para todas
+     * @return vecinos ordenados por distancia ascendente
+     */
+    public List<NearestSightingResponseDTO> findNearest(double latitude, double longitude, int k, Long idBird) {
+        lock.readLock().lock();
+        try {
+            Grid grid = idBird == null ? allBirds : gridsByBird.get(idBird);
+            if (grid == null || grid.cells.isEmpty() || k <= 0) {
+                return List.of();
+            }
+            PriorityQueue<Candidate> best = search(grid, latitude, longitude, k);
+
+            List<NearestSightingResponseDTO> result = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                Candidate candidate = best.poll();
+                result.add(NearestSightingResponseDTO.builder()
+                        .idSighting(candidate.idSighting())
+                        .idBird(candidate.idBird())
+                        .latitude(candidate.latitude())
+                        .longitude(candidate.longitude())
+                        .distanceKm(candidate.distanceKm())
+                        .build());
+            }
+            Collections.reverse(result);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PriorityQueue<Candidate> search(Grid grid, double latitude, double longitude, int k) {
+        PriorityQueue<Candidate> best = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Candidate::distanceKm).reversed());
+        int row0 = row(latitude);
+        int col0 = col(longitude);
+        int maxRing = Math.max(ROWS, COLS / 2);
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (8L * ring > grid.cells.size()) {
+                // Rejilla dispersa: es más barato revisar las celdas ocupadas restantes que recorrer anillos vacíos.
+                for (Map.Entry<Integer, Cell> entry : grid.cells.entrySet()) {
+                    int key = entry.getKey();
+                    if (ringOf(key / COLS, key % COLS, row0, col0) >= ring) {
+                        scan(entry.getValue(), latitude, longitude, k, best);
+                    }
+                }
+                break;
+            }
+            for (int dRow = -ring; dRow <= ring; dRow++) {
+                int row = row0 + dRow;
+                if (row < 0 || row >= ROWS) {
+                    continue;
+                }
+                boolean edgeRow = Math.abs(dRow) == ring;
+                for (int dCol = -ring; dCol <= ring; dCol += edgeRow ? 1 : 2 * ring) {
+                    if (dCol < -(COLS - 1) / 2 || dCol > COLS / 2) {
+                        continue;
+                    }
+                    Cell cell = grid.cells.get(row * COLS + Math.floorMod(col0 + dCol, COLS));
+                    if (cell != null) {
+                        scan(cell, latitude, longitude, k, best);
+                    }
+                    if (ring == 0) {
+                        break;
+                    }
+                }
+            }
+            if (best.size() == k && lowerBoundOutside(ring, row0, col0, latitude, longitude) >= best.peek().distanceKm()) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    private static void scan(Cell cell, double latitude, double longitude, int k, PriorityQueue<Candidate> best) {
+        for (int i = 0; i < cell.size; i++) {
+            double distance = haversineKm(latitude, longitude, cell.latitudes[i], cell.longitudes[i]);
+            if (best.size() < k) {
+                best.add(new Candidate(cell.ids[i], cell.birdIds[i], cell.latitudes[i], cell.longitudes[i], distance));
+            } else if (distance < best.peek().distanceKm()) {
+                best.poll();
+                best.add(new Candidate(cell.ids[i], cell.birdIds[i], cell.latitudes[i], cell.longitudes[i], distance));
+            }
+        }
+    }
+
+    /**
+     * Cota inferior de la distancia desde el punto a cualquier celda fuera del cuadrado de radio {@code ring}.
+     */
+    private static double lowerBoundOutside(int ring, int row0, int col0, double latitude, double longitude) {
+        double latLow = (row0 - ring) * CELL_DEGREES - 90;
+        double latHigh = (row0 + ring + 1) * CELL_DEGREES - 90;
+        double latGap = Math.min(latLow <= -90 ? Double.POSITIVE_INFINITY : latitude - latLow,
+                latHigh >= 90 ? Double.POSITIVE_INFINITY : latHigh - latitude);
+        double latBound = EARTH_RADIUS_KM * Math.toRadians(latGap);
+
+        double lonBound = Double.POSITIVE_INFINITY;
+        if (2 * ring + 1 < COLS) {
+            double lonLow = (col0 - ring) * CELL_DEGREES - 180;
+            double lonHigh = (col0 + ring + 1) * CELL_DEGREES - 180;
+            double lonGap = Math.min(longitude - lonLow, lonHigh - longitude);
+            double minCos = Math.min(Math.cos(Math.toRadians(Math.max(latLow, -90))),
+                    Math.cos(Math.toRadians(Math.min(latHigh, 90))));
+            double hav = Math.cos(Math.toRadians(latitude)) * Math.max(minCos, 0) * haversine(Math.toRadians(lonGap));
+            lonBound = 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1, hav)));
+        }
+        return Math.min(latBound, lonBound);
+    }
+
+    private static int ringOf(int row, int col, int row0, int col0) {
+        int dCol = Math.abs(col - col0);
+        return Math.max(Math.abs(row - row0), Math.min(dCol, COLS - dCol));
+    }
+
+    private void removeLocked(Long idSighting) {
+        Location location = locations.remove(idSighting);
+        if (location == null) {
+            return;
+        }
+        allBirds.remove(location.cellKey(), idSighting);
+        Grid grid = gridsByBird.get(location.idBird());
+        if (grid != null) {
+            grid.remove(location.cellKey(), idSighting);
+            if (grid.cells.isEmpty()) {
+                gridsByBird.remove(location.idBird());
+            }
+        }
+    }
+
+    private static int cellKey(double latitude, double longitude) {
+        return row(latitude) * COLS + col(longitude);
+    }
+
+    private static int row(double latitude) {
+        return Math.min(Math.max((int) Math.floor((latitude + 90) / CELL_DEGREES), 0), ROWS - 1);
+    }
+
+    private static int col(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLS);
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double phi1 = Math.toRadians(lat1);
+        double phi2 = Math.toRadians(lat2);
+        double h = haversine(phi2 - phi1) + Math.cos(phi1) * Math.cos(phi2) * haversine(Math.toRadians(lon2 - lon1));
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1, h)));
+    }
+
+    private static double haversine(double radians) {
+        double s = Math.sin(radians / 2);
+        return s * s;
+    }
+
+    /**
+     * Rejilla dispersa de celdas ocupadas.
+     */
+    private static final class Grid {
+
+        private final Map<Integer, Cell> cells = new HashMap<>();
+
+        void add(int cellKey, long idSighting, long idBird, double latitude, double longitude) {
+            cells.computeIfAbsent(cellKey, key -> new Cell()).add(idSighting, idBird, latitude, longitude);
+        }
+
+        void remove(int cellKey, long idSighting) {
+            Cell cell = cells.get(cellKey);
+            if (cell != null && cell.remove(idSighting) && cell.size == 0) {
+                cells.remove(cellKey);
+            }
+        }
+    }
+
+    /**
+     * Celda con coordenadas en arreglos primitivos paralelos; el borrado intercambia con el último elemento.
+     */
+    private static final class Cell {
+
+        private long[] ids = new long[4];
+        private long[] birdIds = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private int size;
+
+        void add(long idSighting, long idBird, double latitude, double longitude) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                birdIds = Arrays.copyOf(birdIds, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+            }
+            ids[size] = idSighting;
+            birdIds[size] = idBird;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+
+        boolean remove(long idSighting) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == idSighting) {
+                    size--;
+                    ids[i] = ids[size];
+                    birdIds[i] = birdIds[size];
+                    latitudes[i] = latitudes[size];
+                    longitudes[i] = longitudes[size];
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.entity.RevokedToken;
+import edu.education.birdmanagementapi.repository.RevokedTokenRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lista en memoria de los JWT revocados antes de caducar, identificados por su {@code jti}.
+ * <p>
+ * Los {@code jti} se guardan como {@link UUID} (dos {@code long}) en cubetas por minuto de caducidad. Como el token
+ * trae su caducidad, comprobarlo solo consulta una cubeta; y cuando pasa ese minuto la cubeta entera se descarta,
+ * sin recorrer sus entradas. Cada revocación se persiste en {@code revoked_tokens} con su instante de revocación y
+ * la lista se reconstruye al arrancar.
+ * <p>
+ * Cada instancia consulta además cada {@code security.revocation.poll-interval} las revocaciones recientes de la
+ * tabla, así que un cierre de sesión hecho en otra instancia se aplica en todas tras ese intervalo como máximo.
+ * Cada consulta repite el último {@value #POLL_OVERLAP_SECONDS} s para cubrir el desfase de reloj entre
+ * instancias; volver a añadir un token ya revocado no tiene efecto.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList {
+
+    private static final long POLL_OVERLAP_SECONDS = 60;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Clock clock;
+    private final ConcurrentSkipListMap<Long, Set<UUID>> buckets = new ConcurrentSkipListMap<>();
+    private final ScheduledExecutorService poller;
+    private volatile Instant pollFrom;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${security.revocation.poll-interval:PT5S}") Duration pollInterval) {
+        this(revokedTokenRepository, Clock.systemUTC(), pollInterval);
+    }
+
+    /**
+     * Sin consulta periódica: las revocaciones de otras instancias solo se leen con {@link #poll()}.
+     */
+    TokenRevocationList(RevokedTokenRepository revokedTokenRepository, Clock clock) {
+        this(revokedTokenRepository, clock, null);
+    }
+
+    private TokenRevocationList(RevokedTokenRepository revokedTokenRepository, Clock clock, Duration pollInterval) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.clock = clock;
+        this.pollFrom = clock.instant().minusSeconds(POLL_OVERLAP_SECONDS);
+        if (pollInterval == null) {
+            this.poller = null;
+            return;
+        }
+        this.poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "token-revocation-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollQuietly, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Elimina de la base de datos las revocaciones caducadas y carga las vigentes.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Instant now = clock.instant();
+        int expired = revokedTokenRepository.deleteExpired(now);
+        List<RevokedToken> revoked = revokedTokenRepository.findByExpiresAtAfter(now);
+        revoked.forEach(token -> add(token.getJti(), token.getExpiresAt()));
+        log.info("Lista de revocación de JWT cargada: {} tokens vigentes ({} caducados eliminados).",
+                revoked.size(), expired);
+    }
+
+    /**
+     * Revoca un token hasta su caducidad.
+     *
+     * @param jti       identificador del token
+     * @param expiresAt caducidad del token
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        Instant now = clock.instant();
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        revokedTokenRepository.save(RevokedToken.builder().jti(jti).expiresAt(expiresAt).revokedAt(now).build());
+        add(jti, expiresAt);
+    }
+
+    /**
+     * Añade las revocaciones registradas, en esta u otra instancia, desde la consulta anterior.
+     */
+    void poll() {
+        Instant now = clock.instant();
+        List<RevokedToken> revoked = revokedTokenRepository.findByRevokedAtAfterAndExpiresAtAfter(pollFrom, now);
+        revoked.forEach(token -> add(token.getJti(), token.getExpiresAt()));
+        pollFrom = now.minusSeconds(POLL_OVERLAP_SECONDS);
+    }
+
+    @PreDestroy
+    void stopPolling() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    /**
+     * Indica si el token fue revocado.
+     *
+     * @param jti       identificador del token, puede ser {@code null}
+     * @param expiresAt caducidad del token, puede ser {@code null}
+     * @return {@code true} si está revocado
+     */
+    public boolean isRevoked(String jti, Instant expiresAt) {
+        purgeExpired();
+        UUID id = parse(jti);
+        if (id == null || expiresAt == null) {
+            return false;
+        }
+        Set<UUID> bucket = buckets.get(bucketOf(expiresAt));
+        return bucket != null && bucket.contains(id);
+    }
+
+    public int size() {
+        return buckets.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron consultar las revocaciones de JWT recientes: {}", e.getMessage());
+        }
+    }
+
+    private void add(String jti, Instant expiresAt) {
+        UUID id = parse(jti);
+        if (id == null) {
+            log.warn("jti no revocable (no es un UUID): {}", jti);
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAt), minute -> ConcurrentHashMap.newKeySet()).add(id);
+        purgeExpired();
+    }
+
+    /**
+     * Descarta las cubetas cuyo minuto ya terminó; los tokens que contienen ya no pasan la validación.
+     */
+    private void purgeExpired() {
+        long currentMinute = clock.instant().getEpochSecond() / 60;
+        Map.Entry<Long, Set<UUID>> oldest = buckets.firstEntry();
+        if (oldest != null && oldest.getKey() < currentMinute) {
+            ConcurrentNavigableMap<Long, Set<UUID>> expired = buckets.headMap(currentMinute);
+            expired.clear();
+        }
+    }
+
+    /**
+     * Minuto siguiente al de caducidad, para cubrir el margen de tolerancia de la validación.
+     */
+    private static long bucketOf(Instant expiresAt) {
+        return expiresAt.getEpochSecond() / 60 + 1;
+    }
+
+    private static UUID parse(String jti) {
+        if (jti == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(jti);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
+import edu.education.birdmanagementapi.domain.security.SecurityUser;
+import edu.education.birdmanagementapi.util.BoundedCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Caché de los {@link SecurityUser} ya resueltos, indexada por username y versión de seguridad, para que validar un
+ * JWT no consulte el usuario, sus roles y sus permisos en cada petición.
+ * <p>
+ * Solo se guarda un usuario si su versión en base de datos coincide con la del token: un token emitido antes de un
+ * cambio de roles o de estado falla al cargar y se rechaza. Tras el commit de un cambio de usuario
+ * ({@link CatalogChangedEvent} de tipo {@link CatalogType#USER}) se descartan sus entradas; en otras instancias de la
+ * aplicación la caducidad acota el tiempo durante el que se sigue aceptando la versión anterior.
+ * <p>
+ * Además se recuerda la última versión leída de cada usuario. Las versiones solo crecen, así que un token con una
+ * versión menor se rechaza sin volver a consultar la base de datos (por ejemplo, tras deshabilitar al usuario).
+ */
+@Component
+public class UserAuthorityCache {
+
+    private final UserDetailsService userDetailsService;
+    private final BoundedCache<Key, SecurityUser> users;
+    private final BoundedCache<String, Long> knownVersions;
+
+    private record Key(String username, long securityVersion) {
+    }
+
+    public UserAuthorityCache(UserDetailsService userDetailsService, MeterRegistry meterRegistry,
+                              @Value("${security.user-cache.max-size:10000}") int maxSize,
+                              @Value("${security.user-cache.ttl:PT5M}") Duration ttl) {
+        this.userDetailsService = userDetailsService;
+        this.users = new BoundedCache<>(maxSize, ttl);
+        this.knownVersions = new BoundedCache<>(maxSize, null);
+        FunctionCounter.builder("security.user.cache.hits", users, BoundedCache::hitCount).register(meterRegistry);
+        FunctionCounter.builder("security.user.cache.misses", users, BoundedCache::missCount).register(meterRegistry);
+        Gauge.builder("security.user.cache.size", users, BoundedCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Devuelve el usuario para la versión de seguridad indicada en el token.
+     *
+     * @param username        subject del token
+     * @param securityVersion versión de seguridad del token
+     * @return usuario, o {@code null} si su versión ya no coincide con la del token
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException si el usuario no existe
+     */
+    public SecurityUser get(String username, long securityVersion) {
+        Long knownVersion = knownVersions.getIfPresent(username);
+        if (knownVersion != null && knownVersion > securityVersion) {
+            return null;
+        }
+        return users.get(new Key(username, securityVersion), () -> {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            if (!(userDetails instanceof SecurityUser user)) {
+                return null;
+            }
+            knownVersions.put(username, user.getSecurityVersion());
+            return user.getSecurityVersion() == securityVersion ? user : null;
+        });
+    }
+
+    /**
+     * Descarta las entradas de un usuario modificado, o todas si cambiaron los permisos de un rol.
+     *
+     * @param event cambio de catálogo
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.catalogType() == CatalogType.USER) {
+            users.invalidateIf((key, user) -> event.id().equals(user.getIdUser()));
+        } else if (event.catalogType() == CatalogType.ROLE) {
+            users.invalidateAll();
+        }
+    }
+}
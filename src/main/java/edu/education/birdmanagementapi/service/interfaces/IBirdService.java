@@ -1,7 +1,11 @@
 package edu.education.birdmanagementapi.service.interfaces;
 
+import edu.education.birdmanagementapi.domain.dto.request.BirdBatchRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.request.BirdRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchResponseDTO;
 import edu.education.birdmanagementapi.domain.dto.response.BirdResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BirdSuggestionResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BirdSummaryResponseDTO;
 
 import java.util.List;
 
@@ -15,6 +19,15 @@ public interface IBirdService {
      */
     BirdResponseDTO createBird(BirdRequestDTO birdRequestDTO);
 
+    /**
+     * Registra un lote de aves resolviendo familias y hábitats con una consulta por tipo.
+     * Los elementos con nombres duplicados o referencias inexistentes se rechazan individualmente.
+     *
+     * @param batchRequestDTO aves a registrar
+     * @return resultado por elemento
+     */
+    BatchResponseDTO createBirdsBatch(BirdBatchRequestDTO batchRequestDTO);
+
     /**
      * Actualiza una ave existente.
      *
@@ -32,6 +45,15 @@ public interface IBirdService {
      */
     BirdResponseDTO findBirdById(Long id);
 
+    /**
+     * Obtiene un ave junto con las estadísticas de sus avistamientos: total, primera y última fecha,
+     * países y observadores distintos, y conteo mensual.
+     *
+     * @param id identificador del ave
+     * @return ave con su resumen de avistamientos
+     */
+    BirdSummaryResponseDTO findBirdSummary(Long id);
+
     /**
      * Obtiene todas las aves registradas.
      *
@@ -48,10 +70,22 @@ public interface IBirdService {
 
     /**
      * Busca aves cuyo nombre contenga el texto indicado.
+     * Con {@code fuzzy} se añaden, tras las coincidencias exactas, las aves cuyo nombre o alguna de sus palabras
+     * está a esa distancia de edición o menos.
      *
-     * @param name fragmento del nombre
+     * @param name  fragmento del nombre
+     * @param fuzzy número máximo de errores de escritura tolerados (opcional)
      * @return lista de resultados
      */
-    List<BirdResponseDTO> searchByName(String name);
+    List<BirdResponseDTO> searchByName(String name, Integer fuzzy);
+
+    /**
+     * Sugiere aves cuyo nombre común o científico empieza por el prefijo indicado.
+     *
+     * @param prefix prefijo escrito por el usuario
+     * @param limit  número máximo de sugerencias
+     * @return sugerencias; vacía si no hay coincidencias
+     */
+    List<BirdSuggestionResponseDTO> suggestByPrefix(String prefix, Integer limit);
 
 }
@@ -0,0 +1,23 @@
+package edu.education.birdmanagementapi.service.interfaces;
+
+import edu.education.birdmanagementapi.domain.dto.request.SightingRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.response.IngestionTicketResponseDTO;
+
+public interface ISightingIngestionService {
+
+    /**
+     * Encola un avistamiento para su registro asíncrono.
+     *
+     * @param sightingRequestDTO datos del avistamiento (ya validados)
+     * @return ticket en estado {@code QUEUED}
+     */
+    IngestionTicketResponseDTO enqueue(SightingRequestDTO sightingRequestDTO);
+
+    /**
+     * Consulta el estado de un ticket de ingesta.
+     *
+     * @param ticket identificador del ticket
+     * @return estado actual del ticket
+     */
+    IngestionTicketResponseDTO findTicket(String ticket);
+}
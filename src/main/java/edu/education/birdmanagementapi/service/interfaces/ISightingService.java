@@ -1,8 +1,16 @@
 package edu.education.birdmanagementapi.service.interfaces;
 
+import edu.education.birdmanagementapi.domain.dto.request.SightingBatchRequestDTO;
 import edu.education.birdmanagementapi.domain.dto.request.SightingRequestDTO;
+import edu.education.birdmanagementapi.domain.dto.response.BatchResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.CursorPageResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.DailySightingStatResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.HeatmapTileResponseDTO;
+import edu.education.birdmanagementapi.domain.dto.response.NearestSightingResponseDTO;
 import edu.education.birdmanagementapi.domain.dto.response.SightingResponseDTO;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -16,6 +24,14 @@ public interface ISightingService {
      */
     SightingResponseDTO createSighting(SightingRequestDTO sightingRequestDTO);
 
+    /**
+     * Registra un lote de avistamientos, devolviendo el resultado de cada elemento.
+     *
+     * @param batchRequestDTO avistamientos a registrar
+     * @return resultado por elemento
+     */
+    BatchResponseDTO createSightingsBatch(SightingBatchRequestDTO batchRequestDTO);
+
     /**
      * Actualiza un avistamiento existente.
      *
@@ -26,11 +42,13 @@ public interface ISightingService {
     SightingResponseDTO updateSighting(Long id, SightingRequestDTO sightingRequestDTO);
 
     /**
-     * Lista todos los avistamientos registrados.
+     * Lista los avistamientos registrados paginados por cursor.
      *
-     * @return lista de avistamientos
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado (acotado por el máximo del servidor)
+     * @return página de avistamientos
      */
-    List<SightingResponseDTO> findAllSightings();
+    CursorPageResponseDTO<SightingResponseDTO> findAllSightings(String cursor, Integer size);
 
     /**
      * Obtiene un avistamiento por su ID.
@@ -45,42 +63,117 @@ public interface ISightingService {
      * Busca avistamientos por el ID del ave.
      *
      * @param idBird identificador del ave
-     * @return lista de avistamientos asociados
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos asociados
      */
-    List<SightingResponseDTO> findByBirdId(Long idBird);
+    CursorPageResponseDTO<SightingResponseDTO> findByBirdId(Long idBird, String cursor, Integer size);
 
     /**
      * Busca avistamientos por el ID del usuario.
      *
      * @param idUser identificador del usuario
-     * @return lista de avistamientos asociados
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos asociados
      */
-    List<SightingResponseDTO> findByUserId(Long idUser);
+    CursorPageResponseDTO<SightingResponseDTO> findByUserId(Long idUser, String cursor, Integer size);
 
     /**
      * Busca avistamientos por el ID del país.
      *
      * @param idCountry identificador del país
-     * @return lista de avistamientos asociados
+     * @param cursor    cursor de la página anterior (null para la primera)
+     * @param size      tamaño de página solicitado
+     * @return página de avistamientos asociados
      */
-    List<SightingResponseDTO> findByCountryId(Long idCountry);
+    CursorPageResponseDTO<SightingResponseDTO> findByCountryId(Long idCountry, String cursor, Integer size);
 
     /**
      * Busca avistamientos por el ID del hábitat.
      *
      * @param idHabitat identificador del hábitat
-     * @return lista de avistamientos asociados
+     * @param cursor    cursor de la página anterior (null para la primera)
+     * @param size      tamaño de página solicitado
+     * @return página de avistamientos asociados
      */
-    List<SightingResponseDTO> findByHabitatId(Long idHabitat);
+    CursorPageResponseDTO<SightingResponseDTO> findByHabitatId(Long idHabitat, String cursor, Integer size);
 
     /**
      * Busca avistamientos dentro de un rango de fechas.
      *
-     * @param from fecha/hora de inicio
-     * @param to   fecha/hora de fin
-     * @return lista de avistamientos en el rango especificado
+     * @param from   fecha/hora de inicio
+     * @param to     fecha/hora de fin
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos en el rango especificado
+     */
+    CursorPageResponseDTO<SightingResponseDTO> findByDateRange(LocalDateTime from, LocalDateTime to, String cursor,
+                                                               Integer size);
+
+    /**
+     * Busca avistamientos dentro de una caja geográfica.
+     *
+     * @param minLat latitud mínima
+     * @param minLon longitud mínima
+     * @param maxLat latitud máxima
+     * @param maxLon longitud máxima
+     * @param cursor cursor de la página anterior (null para la primera)
+     * @param size   tamaño de página solicitado
+     * @return página de avistamientos dentro de la caja
+     */
+    CursorPageResponseDTO<SightingResponseDTO> findWithinBoundingBox(double minLat, double minLon, double maxLat,
+                                                                     double maxLon, String cursor, Integer size);
+
+    /**
+     * Busca los avistamientos más cercanos a un punto usando el índice espacial en memoria.
+     *
+     * @param latitude  latitud del punto
+     * @param longitude longitud del punto
+     * @param k         número de vecinos (acotado por el servidor)
+     * @param idBird    ave a filtrar (opcional)
+     * @return vecinos ordenados por distancia
+     */
+    List<NearestSightingResponseDTO> findNearest(double latitude, double longitude, Integer k, Long idBird);
+
+    /**
+     * Calcula la densidad de avistamientos de una tesela z/x/y.
+     *
+     * @param z      nivel de zoom
+     * @param x      columna de la tesela
+     * @param y      fila de la tesela
+     * @param idBird ave (opcional)
+     * @param from   fecha/hora mínima (opcional)
+     * @param to     fecha/hora máxima (opcional)
+     * @return conteos por celda
+     */
+    HeatmapTileResponseDTO findHeatmapTile(int z, int x, int y, Long idBird, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Prepara la exportación en NDJSON de los avistamientos que cumplen los filtros (todos opcionales).
+     *
+     * @param idBird    ave
+     * @param idCountry país
+     * @param idHabitat hábitat
+     * @param from      fecha/hora mínima
+     * @param to        fecha/hora máxima
+     * @return cuerpo de respuesta que escribe la exportación en streaming
+     */
+    StreamingResponseBody exportSightings(Long idBird, Long idCountry, Long idHabitat,
+                                          LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Consulta el acumulado diario de avistamientos por ave, país y hábitat.
+     *
+     * @param from      día inicial (inclusive)
+     * @param to        día final (inclusive)
+     * @param idBird    ave (opcional)
+     * @param idCountry país (opcional)
+     * @param idHabitat hábitat (opcional)
+     * @return buckets con avistamientos dentro del rango
      */
-    List<SightingResponseDTO> findByDateRange(LocalDateTime from, LocalDateTime to);
+    List<DailySightingStatResponseDTO> findDailyStats(LocalDate from, LocalDate to, Long idBird, Long idCountry,
+                                                      Long idHabitat);
 
     /**
      * Elimina un avistamiento por su ID.
@@ -0,0 +1,322 @@
+package edu.education.birdmanagementapi.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caché LRU en memoria con tamaño máximo, caducidad opcional y contadores de aciertos/fallos.
+ * <p>
+ * Las lecturas no toman ningún bloqueo. Un fallo deja en la clave una carga en curso: los hilos que piden la misma
+ * clave esperan esa carga en lugar de repetirla, y los que piden otras claves no se ven afectados. Las
+ * invalidaciones son por clave e incluyen las cargas en curso: el valor de una carga cuya clave se invalidó, o que
+ * cumple la condición de un {@link #invalidateIf} posterior a su inicio, no se almacena, de modo que una lectura
+ * concurrente con un cambio no deja en caché el valor anterior.
+ * <p>
+ * El orden LRU es aproximado: cada acierto anota el instante de acceso y, al superar el tamaño máximo, un solo hilo
+ * descarta las entradas menos usadas recientemente, con un margen para no repetir el recorrido en cada inserción.
+ *
+ * @param <K> tipo de la clave
+ * @param <V> tipo del valor
+ */
+public class BoundedCache<K, V> {
+
+    private final Map<K, Node<K, V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final int evictionMargin;
+    private final long ttlNanos;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private abstract static class Node<K, V> {
+    }
+
+    private static final class Loaded<K, V> extends Node<K, V> {
+
+        private final V value;
+        private final long loadedAt;
+        private volatile long accessedAt;
+
+        private Loaded(V value) {
+            this.value = value;
+            this.loadedAt = System.nanoTime();
+            this.accessedAt = loadedAt;
+        }
+    }
+
+    /**
+     * Carga en curso. Las condiciones de {@link #invalidateIf} recibidas mientras carga se añaden y se comprueban
+     * dentro de {@code compute} sobre su clave, así que no necesitan otra sincronización.
+     */
+    private static final class Loading<K, V> extends Node<K, V> {
+
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final List<BiPredicate<K, V>> conditions = new ArrayList<>();
+
+        private boolean discards(K key, V value) {
+            for (BiPredicate<K, V> condition : conditions) {
+                if (condition.test(key, value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * @param maxSize número máximo de entradas; al superarlo se descartan las menos usadas
+     * @param ttl     caducidad de cada entrada, o {@code null} para no caducar
+     */
+    public BoundedCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.evictionMargin = Math.max(1, maxSize / 10);
+        this.ttlNanos = ttl == null ? 0 : ttl.toNanos();
+    }
+
+    /**
+     * Devuelve el valor en caché o lo carga con {@code loader}. Los valores {@code null} no se almacenan. Si otro
+     * hilo ya está cargando la clave, espera su resultado; una excepción del cargador se propaga a todos.
+     *
+     * @param key    clave
+     * @param loader función de carga ante un fallo
+     * @return valor, o {@code null} si el cargador no encontró ninguno
+     */
+    public V get(K key, Supplier<V> loader) {
+        Node<K, V> node = entries.get(key);
+        if (node instanceof Loaded<K, V> loaded && !isExpired(loaded)) {
+            hits.increment();
+            loaded.accessedAt = System.nanoTime();
+            return loaded.value;
+        }
+        misses.increment();
+
+        Loading<K, V> loading = new Loading<>();
+        Node<K, V> current = entries.compute(key, (k, existing) -> isAbsent(existing) ? loading : existing);
+        if (current instanceof Loaded<K, V> loaded) {
+            return loaded.value;
+        }
+        if (current != loading) {
+            return await((Loading<K, V>) current);
+        }
+
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            fail(key, loading, e);
+            throw e;
+        }
+        complete(key, loading, value);
+        return value;
+    }
+
+    /**
+     * Devuelve los valores de varias claves, cargando todas las ausentes con una sola llamada a {@code loader}.
+     * Las claves que ya está cargando otro hilo no se piden al cargador: se espera su resultado. Las claves que el
+     * cargador no devuelve quedan fuera del resultado.
+     *
+     * @param keys   claves
+     * @param loader función de carga de las claves ausentes
+     * @return valores encontrados por clave
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> values = new HashMap<>();
+        Map<K, Loading<K, V>> own = new HashMap<>();
+        Map<K, Loading<K, V>> others = new HashMap<>();
+        for (K key : keys) {
+            Node<K, V> node = entries.get(key);
+            if (node instanceof Loaded<K, V> loaded && !isExpired(loaded)) {
+                hits.increment();
+                loaded.accessedAt = System.nanoTime();
+                values.put(key, loaded.value);
+                continue;
+            }
+            misses.increment();
+            Loading<K, V> loading = new Loading<>();
+            Node<K, V> current = entries.compute(key, (k, existing) -> isAbsent(existing) ? loading : existing);
+            if (current == loading) {
+                own.put(key, loading);
+            } else if (current instanceof Loaded<K, V> loaded) {
+                values.put(key, loaded.value);
+            } else {
+                others.put(key, (Loading<K, V>) current);
+            }
+        }
+
+        // Las cargas propias se completan antes de esperar las ajenas, así dos llamadas no se esperan entre sí
+        if (!own.isEmpty()) {
+            Map<K, V> loaded;
+            try {
+                loaded = loader.apply(new HashSet<>(own.keySet()));
+            } catch (RuntimeException | Error e) {
+                own.forEach((key, loading) -> fail(key, loading, e));
+                throw e;
+            }
+            own.forEach((key, loading) -> {
+                V value = loaded.get(key);
+                complete(key, loading, value);
+                if (value != null) {
+                    values.put(key, value);
+                }
+            });
+        }
+        others.forEach((key, loading) -> {
+            V value = await(loading);
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Devuelve el valor en caché sin cargarlo, o {@code null}. Una carga en curso cuenta como ausente.
+     */
+    public V getIfPresent(K key) {
+        Node<K, V> node = entries.get(key);
+        if (node instanceof Loaded<K, V> loaded && !isExpired(loaded)) {
+            hits.increment();
+            loaded.accessedAt = System.nanoTime();
+            return loaded.value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Almacena o reemplaza un valor. Una carga en curso de la misma clave ya no lo sobrescribe.
+     */
+    public void put(K key, V value) {
+        entries.put(key, new Loaded<>(value));
+        evictIfNeeded();
+    }
+
+    /**
+     * Elimina una entrada, o descarta el resultado de su carga en curso.
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Elimina las entradas que cumplen la condición. Las cargas en curso comprueban la condición al terminar.
+     */
+    public void invalidateIf(BiPredicate<K, V> condition) {
+        for (K key : entries.keySet()) {
+            entries.computeIfPresent(key, (k, node) -> {
+                if (node instanceof Loading<K, V> loading) {
+                    loading.conditions.add(condition);
+                    return loading;
+                }
+                return condition.test(k, ((Loaded<K, V>) node).value) ? null : node;
+            });
+        }
+    }
+
+    /**
+     * Vacía la caché y descarta los resultados de las cargas en curso.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Almacena el resultado si la carga sigue asociada a su clave y ninguna invalidación lo descartó.
+     */
+    private void complete(K key, Loading<K, V> loading, V value) {
+        entries.compute(key, (k, current) -> {
+            if (current != loading) {
+                return current;
+            }
+            return value == null || loading.discards(k, value) ? null : new Loaded<>(value);
+        });
+        loading.result.complete(value);
+        evictIfNeeded();
+    }
+
+    private void fail(K key, Loading<K, V> loading, Throwable error) {
+        entries.remove(key, loading);
+        loading.result.completeExceptionally(error);
+    }
+
+    private V await(Loading<K, V> loading) {
+        try {
+            return loading.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Descarta las entradas caducadas y, si aún sobran, las menos usadas recientemente hasta dejar un margen libre.
+     * Si otro hilo ya está descartando, no espera.
+     */
+    private void evictIfNeeded() {
+        if (entries.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Map.Entry<K, Loaded<K, V>>> candidates = new ArrayList<>();
+            entries.forEach((key, node) -> {
+                if (node instanceof Loaded<K, V> loaded) {
+                    if (isExpired(loaded)) {
+                        entries.remove(key, loaded);
+                    } else {
+                        candidates.add(Map.entry(key, loaded));
+                    }
+                }
+            });
+            if (entries.size() <= maxSize) {
+                return;
+            }
+            int excess = entries.size() - maxSize + evictionMargin;
+            candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().accessedAt));
+            for (int i = 0; i < Math.min(excess, candidates.size()); i++) {
+                entries.remove(candidates.get(i).getKey(), candidates.get(i).getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isAbsent(Node<K, V> node) {
+        return node == null || node instanceof Loaded<K, V> loaded && isExpired(loaded);
+    }
+
+    private boolean isExpired(Loaded<K, V> entry) {
+        return ttlNanos > 0 && System.nanoTime() - entry.loadedAt > ttlNanos;
+    }
+}
@@ -0,0 +1,92 @@
+package edu.education.birdmanagementapi.util;
+
+import edu.education.birdmanagementapi.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Utilidades para codificar y decodificar cursores opacos de paginación keyset.
+ * El cursor es la última clave devuelta, codificada en Base64 URL-safe.
+ */
+public final class CursorUtils {
+
+    private static final String SEPARATOR = "_";
+
+    private CursorUtils() {
+    }
+
+    /**
+     * Posición keyset para listados ordenados por fecha/hora y ID.
+     *
+     * @param sightingDateTime fecha/hora del último elemento devuelto
+     * @param idSighting       ID del último elemento devuelto
+     */
+    public record DateTimeCursor(LocalDateTime sightingDateTime, Long idSighting) {
+    }
+
+    /**
+     * Codifica un cursor a partir del último ID devuelto.
+     *
+     * @param id último ID de la página
+     * @return cursor opaco
+     */
+    public static String encode(Long id) {
+        return encodeRaw(String.valueOf(id));
+    }
+
+    /**
+     * Codifica un cursor a partir de la última fecha/hora e ID devueltos.
+     *
+     * @param sightingDateTime última fecha/hora de la página
+     * @param id               último ID de la página
+     * @return cursor opaco
+     */
+    public static String encode(LocalDateTime sightingDateTime, Long id) {
+        return encodeRaw(sightingDateTime + SEPARATOR + id);
+    }
+
+    /**
+     * Decodifica un cursor de ID.
+     *
+     * @param cursor cursor recibido del cliente
+     * @return último ID visto
+     * @throws BadRequestException si el cursor no es válido
+     */
+    public static Long decodeId(String cursor) {
+        try {
+            return Long.parseLong(decodeRaw(cursor));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("El cursor de paginación no es válido.");
+        }
+    }
+
+    /**
+     * Decodifica un cursor de fecha/hora e ID.
+     *
+     * @param cursor cursor recibido del cliente
+     * @return posición keyset
+     * @throws BadRequestException si el cursor no es válido
+     */
+    public static DateTimeCursor decodeDateTime(String cursor) {
+        try {
+            String[] parts = decodeRaw(cursor).split(SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new BadRequestException("El cursor de paginación no es válido.");
+            }
+            return new DateTimeCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("El cursor de paginación no es válido.");
+        }
+    }
+
+    private static String encodeRaw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeRaw(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
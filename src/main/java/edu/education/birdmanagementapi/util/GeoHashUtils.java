@@ -0,0 +1,172 @@
+package edu.education.birdmanagementapi.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Utilidades de geohash (codificación base32 de coordenadas en curva Z).
+ * Los geohash que comparten prefijo están contiguos en un índice B-tree, por lo que una caja geográfica
+ * puede resolverse con unos pocos escaneos de rango por prefijo en lugar de un recorrido completo de la tabla.
+ */
+public final class GeoHashUtils {
+
+    /**
+     * Precisión con la que se persiste el geohash (12 caracteres ≈ 3,7 cm x 1,8 cm).
+     */
+    public static final int STORED_PRECISION = 12;
+
+    private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final int MAX_COVER_PRECISION = 8;
+    private static final int MAX_COVER_CELLS = 24;
+
+    private GeoHashUtils() {
+    }
+
+    /**
+     * Rango semiabierto {@code [start, end)} de geohash que comparten un prefijo.
+     *
+     * @param start límite inferior inclusivo (el prefijo)
+     * @param end   límite superior exclusivo, o {@code null} si no hay límite
+     */
+    public record GeoHashRange(String start, String end) {
+    }
+
+    /**
+     * Codifica una coordenada como geohash.
+     *
+     * @param latitude  latitud en grados
+     * @param longitude longitud en grados
+     * @param precision número de caracteres
+     * @return geohash
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90, minLon = -180, maxLon = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLon = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32.charAt(ch));
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Codifica una coordenada con la precisión persistida, o devuelve {@code null} si falta alguna componente.
+     *
+     * @param latitude  latitud en grados
+     * @param longitude longitud en grados
+     * @return geohash o {@code null}
+     */
+    public static String encode(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return encode(latitude, longitude, STORED_PRECISION);
+    }
+
+    /**
+     * Calcula los rangos de prefijo que cubren una caja geográfica.
+     * Se elige la mayor precisión que no supere {@value #MAX_COVER_CELLS} celdas y los rangos contiguos se fusionan.
+     *
+     * @param minLat latitud mínima
+     * @param minLon longitud mínima
+     * @param maxLat latitud máxima
+     * @param maxLon longitud máxima
+     * @return rangos ordenados y fusionados
+     */
+    public static List<GeoHashRange> coveringRanges(double minLat, double minLon, double maxLat, double maxLon) {
+        int precision = 1;
+        for (int p = MAX_COVER_PRECISION; p > 1; p--) {
+            if (cellCount(minLat, minLon, maxLat, maxLon, p) <= MAX_COVER_CELLS) {
+                precision = p;
+                break;
+            }
+        }
+
+        double cellWidth = 360.0 / (1L << lonBits(precision));
+        double cellHeight = 180.0 / (1L << latBits(precision));
+        TreeSet<String> prefixes = new TreeSet<>();
+        for (long row = cellIndex(minLat, -90, cellHeight); row <= cellIndex(maxLat, -90, cellHeight); row++) {
+            for (long col = cellIndex(minLon, -180, cellWidth); col <= cellIndex(maxLon, -180, cellWidth); col++) {
+                double centerLat = Math.min(-90 + (row + 0.5) * cellHeight, 90);
+                double centerLon = Math.min(-180 + (col + 0.5) * cellWidth, 180);
+                prefixes.add(encode(centerLat, centerLon, precision));
+            }
+        }
+
+        List<GeoHashRange> ranges = new ArrayList<>();
+        for (String prefix : prefixes) {
+            String end = successor(prefix);
+            if (!ranges.isEmpty() && prefix.equals(ranges.get(ranges.size() - 1).end())) {
+                ranges.set(ranges.size() - 1, new GeoHashRange(ranges.get(ranges.size() - 1).start(), end));
+            } else {
+                ranges.add(new GeoHashRange(prefix, end));
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Menor cadena mayor que todas las que empiezan por {@code prefix}, o {@code null} si no existe.
+     */
+    static String successor(String prefix) {
+        StringBuilder next = new StringBuilder(prefix);
+        while (!next.isEmpty()) {
+            int last = next.length() - 1;
+            int index = BASE32.indexOf(next.charAt(last));
+            if (index < BASE32.length() - 1) {
+                next.setCharAt(last, BASE32.charAt(index + 1));
+                return next.toString();
+            }
+            next.setLength(last);
+        }
+        return null;
+    }
+
+    private static long cellCount(double minLat, double minLon, double maxLat, double maxLon, int precision) {
+        double cellWidth = 360.0 / (1L << lonBits(precision));
+        double cellHeight = 180.0 / (1L << latBits(precision));
+        long rows = cellIndex(maxLat, -90, cellHeight) - cellIndex(minLat, -90, cellHeight) + 1;
+        long cols = cellIndex(maxLon, -180, cellWidth) - cellIndex(minLon, -180, cellWidth) + 1;
+        return rows * cols;
+    }
+
+    private static long cellIndex(double value, double origin, double cellSize) {
+        return (long) Math.floor((value - origin) / cellSize);
+    }
+
+    private static int lonBits(int precision) {
+        return (5 * precision + 1) / 2;
+    }
+
+    private static int latBits(int precision) {
+        return 5 * precision / 2;
+    }
+}
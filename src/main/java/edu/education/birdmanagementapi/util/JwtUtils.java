@@ -1,11 +1,14 @@
 package edu.education.birdmanagementapi.util;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTCreator;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import edu.education.birdmanagementapi.domain.security.SecurityUser;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -13,31 +16,108 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+/**
+ * Emisión y validación de JWT con un llavero de claves HMAC identificadas por {@code kid}.
+ * <p>
+ * Los tokens se firman siempre con la clave actual ({@code security.jwt.key.id} / {@code security.jwt.key.private})
+ * y se aceptan los firmados con cualquiera de las claves retiradas configuradas en {@code security.jwt.key.retired}
+ * ({@code kid:secreto} separados por comas, de la más reciente a la más antigua), hasta un total de
+ * {@code security.jwt.key.accepted} claves. Rotar sin cortes consiste en publicar la nueva clave como actual y
+ * pasar la anterior a retirada; se elimina cuando han caducado los tokens que firmó.
+ * <p>
+ * El {@link Algorithm} y el {@link JWTVerifier} de cada clave se construyen una sola vez al arrancar; ambos son
+ * inmutables y seguros para hilos.
+ */
 @Slf4j
 @Component
 public class JwtUtils {
 
+    /**
+     * Claim con la versión de seguridad del usuario al emitir el token.
+     */
+    public static final String SECURITY_VERSION_CLAIM = "sv";
 
     @Value("${security.jwt.key.private}")
     private String privateKey;
 
+    @Value("${security.jwt.key.id:k1}")
+    private String keyId;
+
+    @Value("${security.jwt.key.retired:}")
+    private String retiredKeys;
+
+    @Value("${security.jwt.key.accepted:3}")
+    private int acceptedKeys;
+
     @Value("${security.jwt.user.generator}")
     private String userGenerator;
 
+    private Algorithm signingAlgorithm;
+    private JWTVerifier signingVerifier;
+    private Map<String, JWTVerifier> verifiers;
+
+    /**
+     * Construye el algoritmo de firma y un verificador por cada clave aceptada.
+     *
+     * @throws IllegalStateException si el llavero está mal configurado
+     */
+    @PostConstruct
+    void initKeyring() {
+        if (keyId == null || keyId.isBlank() || privateKey == null || privateKey.isBlank()) {
+            throw new IllegalStateException("La clave de firma JWT actual debe tener kid y secreto.");
+        }
+        if (acceptedKeys < 1) {
+            throw new IllegalStateException("security.jwt.key.accepted debe ser al menos 1.");
+        }
+        Map<String, JWTVerifier> keyring = new LinkedHashMap<>();
+        signingAlgorithm = Algorithm.HMAC256(privateKey);
+        signingVerifier = buildVerifier(signingAlgorithm);
+        keyring.put(keyId, signingVerifier);
+
+        for (String retired : retiredKeys.split(",")) {
+            if (retired.isBlank()) {
+                continue;
+            }
+            if (keyring.size() == acceptedKeys) {
+                log.warn("Se ignoran las claves JWT retiradas que superan el máximo de {} aceptadas.", acceptedKeys);
+                break;
+            }
+            int separator = retired.indexOf(':');
+            String kid = separator > 0 ? retired.substring(0, separator).trim() : "";
+            String secret = separator > 0 ? retired.substring(separator + 1).trim() : "";
+            if (kid.isEmpty() || secret.isEmpty()) {
+                throw new IllegalStateException("Clave JWT retirada mal formada; se espera kid:secreto.");
+            }
+            if (keyring.putIfAbsent(kid, buildVerifier(Algorithm.HMAC256(secret))) != null) {
+                throw new IllegalStateException("kid JWT duplicado en el llavero: " + kid);
+            }
+        }
+        verifiers = Collections.unmodifiableMap(keyring);
+        log.info("Llavero JWT cargado: firma con '{}', acepta {}.", keyId, verifiers.keySet());
+    }
+
+    private JWTVerifier buildVerifier(Algorithm algorithm) {
+        return JWT.require(algorithm)
+                .withIssuer(userGenerator)
+                .acceptLeeway(2)
+                .build();
+    }
+
     /**
-     * Crea y firma un JWT; el subject es el username.
+     * Crea y firma un JWT; el subject es el username. Si el principal es un {@link SecurityUser} incluye su versión
+     * de seguridad en la claim {@value #SECURITY_VERSION_CLAIM}.
      *
      * @param authentication Authentication (principal o name).
      * @return Token JWT firmado.
      */
     public String createToken(Authentication authentication) {
-        Algorithm algorithm = Algorithm.HMAC256(privateKey);
-
         Object principal = authentication.getPrincipal();
         String username;
         if (principal instanceof UserDetails) {
@@ -51,7 +131,7 @@ public class JwtUtils {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        return JWT.create()
+        JWTCreator.Builder builder = JWT.create()
                 .withIssuer(userGenerator)
                 .withSubject(username)
                 .withClaim("authorities", authorities)
@@ -59,23 +139,31 @@ public class JwtUtils {
                 .withExpiresAt(new Date(System.currentTimeMillis() + 1_800_000)) // 30 min
                 .withJWTId(UUID.randomUUID().toString())
                 .withNotBefore(new Date(System.currentTimeMillis()))
-                .sign(algorithm);
+                .withKeyId(keyId);
+        if (principal instanceof SecurityUser securityUser) {
+            builder.withClaim(SECURITY_VERSION_CLAIM, securityUser.getSecurityVersion());
+        }
+        return builder.sign(signingAlgorithm);
     }
 
     /**
      * Valida el token y devuelve el DecodedJWT si es válido.
      * Si no es válido devuelve null (no lanza excepción) y registra la causa.
+     * <p>
+     * El verificador se elige por el {@code kid} de la cabecera; los tokens sin {@code kid}, emitidos antes del
+     * llavero, se verifican con la clave actual.
      */
     public DecodedJWT validateToken(String token) {
 
         try {
-            Algorithm algorithm = Algorithm.HMAC256(privateKey);
-
-            JWTVerifier verifier = JWT.require(algorithm)
-                    .withIssuer(userGenerator)
-                    .acceptLeeway(2)
-                    .build();
-            return verifier.verify(token);
+            DecodedJWT decodedJWT = JWT.decode(token);
+            String kid = decodedJWT.getKeyId();
+            JWTVerifier verifier = kid == null ? signingVerifier : verifiers.get(kid);
+            if (verifier == null) {
+                log.warn("JWT firmado con una clave desconocida o retirada: kid={}", kid);
+                return null;
+            }
+            return verifier.verify(decodedJWT);
         } catch (JWTVerificationException e) {
             log.warn("JWT inválido/expirado: {}", e.getMessage());
             return null;
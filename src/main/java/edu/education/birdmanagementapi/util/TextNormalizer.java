@@ -0,0 +1,126 @@
+package edu.education.birdmanagementapi.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalización de textos para búsquedas: minúsculas, espacios colapsados y sin diacríticos
+ * ("Colibrí" y "colibri" producen la misma clave), más una clave fonética para nombres en español.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Normaliza un texto para compararlo con los índices de búsqueda.
+     *
+     * @param text texto original
+     * @return texto normalizado (vacío si {@code text} es {@code null})
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        boolean ascii = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !normalized.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+            ascii &= c < 128;
+        }
+        String folded = ascii ? normalized.toString() : foldDiacritics(normalized.toString());
+        return folded.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Clave fonética de un texto en español: se normaliza y se unifican las grafías que suenan igual
+     * (b/v, c/k/qu, c/s/z, g/j ante e-i, ll/y, y final/i, h muda, letras dobles), de modo que "Garsa Blanka" y
+     * "Garza Blanca" comparten clave.
+     *
+     * @param text texto original
+     * @return clave fonética (vacía si el texto no tiene letras)
+     */
+    public static String phoneticKey(String text) {
+        String normalized = normalize(text);
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            char next = i + 1 < normalized.length() ? normalized.charAt(i + 1) : ' ';
+            char code;
+            switch (c) {
+                case 'h' -> {
+                    continue;
+                }
+                case 'v', 'w' -> code = 'b';
+                case 'z' -> code = 's';
+                case 'q' -> {
+                    code = 'k';
+                    if (next == 'u') {
+                        i++;
+                    }
+                }
+                case 'c' -> {
+                    if (next == 'h') {
+                        code = 'c';
+                        i++;
+                    } else {
+                        code = next == 'e' || next == 'i' ? 's' : 'k';
+                    }
+                }
+                case 'g' -> {
+                    if (next == 'e' || next == 'i') {
+                        code = 'j';
+                    } else {
+                        code = 'g';
+                        char afterNext = i + 2 < normalized.length() ? normalized.charAt(i + 2) : ' ';
+                        if (next == 'u' && (afterNext == 'e' || afterNext == 'i')) {
+                            i++;
+                        }
+                    }
+                }
+                case 'l' -> {
+                    if (next == 'l') {
+                        code = 'y';
+                        i++;
+                    } else {
+                        code = 'l';
+                    }
+                }
+                case 'y' -> code = isLetter(next) ? 'y' : 'i';
+                case ' ' -> code = ' ';
+                default -> {
+                    if (!isLetter(c)) {
+                        continue;
+                    }
+                    code = c;
+                }
+            }
+            if (key.isEmpty() ? code != ' ' : key.charAt(key.length() - 1) != code) {
+                key.append(code);
+            }
+        }
+        int end = key.length();
+        return end > 0 && key.charAt(end - 1) == ' ' ? key.substring(0, end - 1) : key.toString();
+    }
+
+    private static boolean isLetter(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static String foldDiacritics(String text) {
+        return COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+    }
+}
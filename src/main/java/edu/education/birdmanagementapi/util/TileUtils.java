@@ -0,0 +1,89 @@
+package edu.education.birdmanagementapi.util;
+
+/**
+ * Utilidades para teselas de mapa en proyección Web Mercator (esquema z/x/y de OpenStreetMap).
+ */
+public final class TileUtils {
+
+    /**
+     * Latitud máxima representable en Web Mercator.
+     */
+    public static final double MAX_LATITUDE = 85.05112878;
+
+    /**
+     * Nivel de zoom máximo admitido.
+     */
+    public static final int MAX_ZOOM = 22;
+
+    private TileUtils() {
+    }
+
+    /**
+     * Límites geográficos de una tesela.
+     *
+     * @param minLat latitud sur
+     * @param minLon longitud oeste
+     * @param maxLat latitud norte
+     * @param maxLon longitud este
+     */
+    public record TileBounds(double minLat, double minLon, double maxLat, double maxLon) {
+
+        /**
+         * Indica si un punto cae dentro de la tesela (bordes incluidos).
+         */
+        public boolean contains(Double latitude, Double longitude) {
+            return latitude != null && longitude != null
+                    && latitude >= minLat && latitude <= maxLat && longitude >= minLon && longitude <= maxLon;
+        }
+    }
+
+    /**
+     * Indica si las coordenadas z/x/y identifican una tesela válida.
+     */
+    public static boolean isValid(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM) {
+            return false;
+        }
+        long tiles = 1L << z;
+        return x >= 0 && x < tiles && y >= 0 && y < tiles;
+    }
+
+    /**
+     * Calcula los límites geográficos de una tesela.
+     *
+     * @param z nivel de zoom
+     * @param x columna
+     * @param y fila (0 en el norte)
+     * @return límites de la tesela
+     */
+    public static TileBounds bounds(int z, int x, int y) {
+        double tiles = 1L << z;
+        return new TileBounds(tileLatitude(y + 1, tiles), x / tiles * 360.0 - 180.0,
+                tileLatitude(y, tiles), (x + 1) / tiles * 360.0 - 180.0);
+    }
+
+    /**
+     * Columna fraccionaria de una longitud en el nivel de zoom indicado (la parte entera es la columna).
+     */
+    public static double tileX(double longitude, int z) {
+        return (longitude + 180.0) / 360.0 * (1L << z);
+    }
+
+    /**
+     * Fila fraccionaria de una latitud en el nivel de zoom indicado (la parte entera es la fila, 0 en el norte).
+     */
+    public static double tileY(double latitude, int z) {
+        return (1 - mercatorY(latitude) / Math.PI) / 2 * (1L << z);
+    }
+
+    /**
+     * Ordenada Mercator (adimensional) de una latitud.
+     */
+    public static double mercatorY(double latitude) {
+        return Math.log(Math.tan(Math.PI / 4 + Math.toRadians(latitude) / 2));
+    }
+
+    private static double tileLatitude(int y, double tiles) {
+        return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / tiles))));
+    }
+}
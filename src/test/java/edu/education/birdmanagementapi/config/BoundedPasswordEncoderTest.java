@@ -0,0 +1,169 @@
+package edu.education.birdmanagementapi.config;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import edu.education.birdmanagementapi.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica el rechazo de {@link BoundedPasswordEncoder} cuando su pool está saturado y que, en una petición con
+ * Basic Auth, ese rechazo llega al cliente como 503 y no como 401 o 500.
+ */
+class BoundedPasswordEncoderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch gate = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        gate.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.close();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() throws InterruptedException {
+        encoder = saturatedEncoder(Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> encoder.matches("1234", "1234"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(rejections("queue-full")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsWhenTheResultDoesNotArriveInTime() {
+        encoder = new BoundedPasswordEncoder(new GatedPasswordEncoder(gate), 1, 1, Duration.ofMillis(50),
+                meterRegistry);
+
+        assertThatThrownBy(() -> encoder.encode("1234"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        assertThat(rejections("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void basicAuthRejectedByTheHashingPoolRespondsServiceUnavailable() throws Exception {
+        encoder = saturatedEncoder(Duration.ofSeconds(5));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        basicAuthFilter(encoder).doFilter(basicAuthRequest("ana", "1234"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.WWW_AUTHENTICATE)).isNull();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8))
+                .contains("\"errorCode\":\"SERVICE_UNAVAILABLE\"", "\"path\":\"/birds\"");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void basicAuthWithWrongPasswordStillRespondsUnauthorized() throws Exception {
+        gate.countDown();
+        encoder = new BoundedPasswordEncoder(new GatedPasswordEncoder(gate), 1, 1, Duration.ofSeconds(5),
+                meterRegistry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        basicAuthFilter(encoder).doFilter(basicAuthRequest("ana", "incorrecta"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getHeader(HttpHeaders.WWW_AUTHENTICATE)).isEqualTo("Basic realm=\"Realm\"");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    /**
+     * Encoder de un hilo y una plaza de cola con ambos ocupados por verificaciones bloqueadas en {@link #gate}.
+     */
+    private BoundedPasswordEncoder saturatedEncoder(Duration timeout) throws InterruptedException {
+        BoundedPasswordEncoder saturated = new BoundedPasswordEncoder(new GatedPasswordEncoder(gate), 1, 1, timeout,
+                meterRegistry);
+        for (int i = 0; i < 2; i++) {
+            callers.submit(() -> saturated.matches("1234", "1234"));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (gauge("password.hashing.queue.size") < 1 || gauge("password.hashing.active") < 1) {
+            assertThat(System.nanoTime()).as("el pool no llegó a saturarse").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        return saturated;
+    }
+
+    private static BasicAuthenticationFilter basicAuthFilter(PasswordEncoder passwordEncoder) {
+        BoundedDaoAuthenticationProvider provider = new BoundedDaoAuthenticationProvider();
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername("ana").password("1234").roles("USER").build()));
+        return new BasicAuthenticationFilter(new ProviderManager(provider),
+                new ServiceUnavailableAuthenticationEntryPoint(JsonMapper.builder().findAndAddModules().build(),
+                        "Realm"));
+    }
+
+    private static MockHttpServletRequest basicAuthRequest(String username, String password) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/birds");
+        String credentials = Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Basic " + credentials);
+        return request;
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private double rejections(String reason) {
+        return meterRegistry.get("password.hashing.rejected").tag("reason", reason).counter().count();
+    }
+
+    /**
+     * Codificador en claro que no responde hasta que se abre la compuerta.
+     */
+    private record GatedPasswordEncoder(CountDownLatch gate) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return rawPassword.toString().equals(encodedPassword);
+        }
+
+        private void await() {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package edu.education.birdmanagementapi.config;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.SingleResultAuthorizationManager;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.access.intercept.RequestMatcherDelegatingAuthorizationManager;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AnyRequestMatcher;
+
+import static edu.education.birdmanagementapi.config.RouteAuthorizationTable.authenticated;
+import static edu.education.birdmanagementapi.config.RouteAuthorizationTable.hasAnyAuthority;
+import static edu.education.birdmanagementapi.config.RouteAuthorizationTable.hasAnyRole;
+import static edu.education.birdmanagementapi.config.RouteAuthorizationTable.permitAll;
+
+/**
+ * Cadena de {@code requestMatchers} que {@link SecurityConfig} usaba antes de {@link RouteAuthorizationTable}: cada
+ * petición prueba los patrones en orden y se queda con la primera regla que coincide; lo demás se deniega. Los
+ * patrones se resuelven con {@link PathPatternRequestMatcher}, la misma sintaxis {@code PathPattern} de Spring MVC.
+ * Sirve de referencia para los tests y el benchmark de la tabla.
+ */
+final class LegacyRouteAuthorization {
+
+    private final RequestMatcherDelegatingAuthorizationManager.Builder builder =
+            RequestMatcherDelegatingAuthorizationManager.builder();
+
+    private LegacyRouteAuthorization() {
+    }
+
+    static AuthorizationManager<RequestAuthorizationContext> chain() {
+        return new LegacyRouteAuthorization()
+                /*---------------- Configuración de endpoints PÚBLICOS ----------------*/
+                .add(HttpMethod.GET, permitAll(), "/method/test")
+                .add(null, permitAll(), "/swagger-ui/**")
+                .add(HttpMethod.POST, permitAll(), "/users/create")
+                .add(HttpMethod.POST, permitAll(), "/auth/login", "/auth/register")
+                .add(HttpMethod.GET, permitAll(), "/actuator/health")
+                .add(HttpMethod.GET, hasAnyAuthority("READ", "INVITED"), "/sightings")
+
+                /*---------------- Configuración de endpoints PRIVADOS (por Permiso o Rol) ----------------*/
+                .add(HttpMethod.GET, hasAnyAuthority("READ"), "/method/test-secured")
+                .add(HttpMethod.POST, authenticated(), "/auth/logout")
+
+                .add(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings")
+                .add(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/batch")
+                .add(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/async")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/async/{ticket}")
+                .add(HttpMethod.PUT, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/{id}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/within")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/nearest")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/export")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/stats/daily")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/heatmap/{z}/{x}/{y}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/{id}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/birds/{idBird}/sightings")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/users/{idUser}/sightings")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/countries/{idCountry}/sightings")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/habitats/{idHabitat}/sightings")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/sightings/date-range")
+                .add(HttpMethod.DELETE, hasAnyRole("ADMIN", "DEVELOPER"), "/sightings/{id}")
+
+                .add(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/families")
+                .add(HttpMethod.PUT, hasAnyRole("ADMIN", "DEVELOPER"), "/families/{id}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/families")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/families/{id}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/families/by-name")
+                .add(HttpMethod.DELETE, hasAnyRole("ADMIN", "DEVELOPER"), "/families/{id}")
+
+                .add(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/birds")
+                .add(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/birds/batch")
+                .add(HttpMethod.PUT, hasAnyRole("ADMIN", "DEVELOPER"), "/birds/{id}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds/suggest")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds/{id}/summary")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds/{id}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/birds/by-name")
+                .add(HttpMethod.DELETE, hasAnyRole("ADMIN", "DEVELOPER"), "/birds/{id}")
+
+                .add(HttpMethod.POST, hasAnyRole("ADMIN", "DEVELOPER"), "/habitats")
+                .add(HttpMethod.PUT, hasAnyRole("ADMIN", "DEVELOPER"), "/habitats/{id}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/habitats")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/habitats/{id}")
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER", "USER", "INVITED"), "/habitats/by-name")
+                .add(HttpMethod.DELETE, hasAnyRole("ADMIN", "DEVELOPER"), "/habitats/{id}")
+
+                .add(HttpMethod.GET, hasAnyRole("ADMIN", "DEVELOPER"), "/actuator/metrics", "/actuator/metrics/**")
+
+                .add(null, hasAnyRole("ADMIN", "DEVELOPER"), "/users/**")
+
+                .add(HttpMethod.PUT, hasAnyRole("ADMIN"), "/roles/{id}/permissions")
+
+                /*---------------- Configuración del resto de endpoints ----------------*/
+                .build();
+    }
+
+    private LegacyRouteAuthorization add(HttpMethod method, AuthorizationManager<RequestAuthorizationContext> rule,
+                                         String... patterns) {
+        for (String pattern : patterns) {
+            builder.add(PathPatternRequestMatcher.withDefaults().matcher(method, pattern), rule);
+        }
+        return this;
+    }
+
+    private AuthorizationManager<RequestAuthorizationContext> build() {
+        RequestMatcherDelegatingAuthorizationManager chain = builder
+                .add(AnyRequestMatcher.INSTANCE, SingleResultAuthorizationManager.denyAll())
+                .build();
+        return (authentication, context) -> chain.check(authentication, context.getRequest());
+    }
+}
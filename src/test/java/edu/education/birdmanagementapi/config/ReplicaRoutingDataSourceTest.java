@@ -0,0 +1,188 @@
+package edu.education.birdmanagementapi.config;
+
+import edu.education.birdmanagementapi.domain.enums.CatalogType;
+import edu.education.birdmanagementapi.domain.enums.ChangeType;
+import edu.education.birdmanagementapi.domain.event.CatalogChangedEvent;
+import edu.education.birdmanagementapi.domain.projection.BirdNameProjection;
+import edu.education.birdmanagementapi.repository.BirdRepository;
+import edu.education.birdmanagementapi.service.index.BirdNameIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifica el enrutamiento de {@link ReplicaRoutingDataSource}: las transacciones de solo lectura van a las
+ * réplicas, salvo los métodos anotados con {@link ReadFromPrimary}, como las recargas de índices posteriores a un
+ * commit, y las lecturas dentro de la ventana posterior a una escritura.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource firstReplica;
+    private DataSource secondReplica;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(DataSource.class);
+        firstReplica = mock(DataSource.class);
+        secondReplica = mock(DataSource.class);
+        routing = newRouting(Duration.ofHours(1));
+    }
+
+    private ReplicaRoutingDataSource newRouting(Duration readYourWritesWindow) {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary,
+                List.of(firstReplica, secondReplica), Duration.ofHours(1), readYourWritesWindow);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    /**
+     * Aplica el advisor de {@link ReadFromPrimary} como lo haría el contexto de Spring.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T withPrimaryReads(T target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvisor(ReadReplicaDataSourceConfig.readFromPrimaryAdvisor());
+        return (T) proxyFactory.getProxy();
+    }
+
+    static class PrimaryReader {
+
+        @ReadFromPrimary
+        public void run(Runnable action) {
+            action.run();
+        }
+
+        public void runAnywhere(Runnable action) {
+            action.run();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        routing.close();
+    }
+
+    @Test
+    void readWriteTransactionsUsePrimary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyTransactionsRotateAcrossReplicas() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(List.of(routing.determineCurrentLookupKey(), routing.determineCurrentLookupKey(),
+                routing.determineCurrentLookupKey())).containsExactly(0, 1, 0);
+    }
+
+    @Test
+    void unhealthyReplicasFallBackToPrimary() throws SQLException {
+        when(firstReplica.getConnection()).thenThrow(new SQLException("caída"));
+        when(secondReplica.getConnection()).thenThrow(new SQLException("caída"));
+        routing.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    void annotatedMethodsReadFromPrimaryUntilTheOutermostCallReturns() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PrimaryReader reader = withPrimaryReads(new PrimaryReader());
+        List<Object> keys = new ArrayList<>();
+
+        reader.run(() -> {
+            keys.add(routing.determineCurrentLookupKey());
+            reader.run(() -> keys.add(routing.determineCurrentLookupKey()));
+            keys.add(routing.determineCurrentLookupKey());
+        });
+        keys.add(routing.determineCurrentLookupKey());
+        reader.runAnywhere(() -> keys.add(routing.determineCurrentLookupKey()));
+
+        assertThat(keys).containsExactly("primary", "primary", "primary", 0, 1);
+    }
+
+    @Test
+    void primaryHintIsClearedWhenTheReadFails() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        PrimaryReader reader = withPrimaryReads(new PrimaryReader());
+        try {
+            reader.run(() -> {
+                throw new IllegalStateException("fallo");
+            });
+        } catch (IllegalStateException expected) {
+            // la indicación no debe quedar activa en el hilo
+        }
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(0);
+    }
+
+    @Test
+    void readsAfterALocalWriteUsePrimaryDuringTheWindow() {
+        TransactionExecution write = mock(TransactionExecution.class);
+        routing.beforeCommit(write);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyCommitsDoNotOpenTheWindow() {
+        TransactionExecution read = mock(TransactionExecution.class);
+        when(read.isReadOnly()).thenReturn(true);
+        routing.beforeCommit(read);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(0);
+    }
+
+    @Test
+    void readsReturnToReplicasWhenTheWindowExpires() throws Exception {
+        routing.close();
+        routing = newRouting(Duration.ZERO);
+        routing.beforeCommit(mock(TransactionExecution.class));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(0);
+    }
+
+    @Test
+    void postCommitIndexRefreshReadsFromPrimary() {
+        List<Object> keys = new ArrayList<>();
+        BirdRepository birdRepository = mock(BirdRepository.class);
+        when(birdRepository.findNamesById(1L)).thenAnswer(invocation -> {
+            keys.add(routing.determineCurrentLookupKey());
+            return Optional.of(new BirdNameProjection(1L, "Garza Blanca", "Ardea alba"));
+        });
+        when(birdRepository.findAllNames()).thenAnswer(invocation -> {
+            keys.add(routing.determineCurrentLookupKey());
+            return List.of();
+        });
+        BirdNameIndex index = withPrimaryReads(new BirdNameIndex(birdRepository));
+        // onCatalogChanged se ejecuta en una transacción REQUIRES_NEW de solo lectura
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        index.onCatalogChanged(new CatalogChangedEvent(CatalogType.BIRD, ChangeType.UPDATED, 1L));
+        index.onCatalogChanged(new CatalogChangedEvent(CatalogType.FAMILY, ChangeType.DELETED, 1L));
+
+        assertThat(keys).containsExactly("primary", "primary");
+    }
+}
@@ -0,0 +1,75 @@
+package edu.education.birdmanagementapi.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la autorización de peticiones con {@link RouteAuthorizationTable} y con la cadena de
+ * {@code requestMatchers} a la que sustituyó ({@link LegacyRouteAuthorization}). Las peticiones mezclan rutas que
+ * la cadena resolvía al principio, al final y por la denegación por defecto; cada llamada crea su petición para que
+ * ninguna de las dos reutilice la ruta ya analizada.
+ * <p>
+ * Se ejecuta con:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main RouteAuthorizationBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RouteAuthorizationBenchmark {
+
+    private static final String[][] REQUESTS = {
+            {"GET", "/method/test"},
+            {"GET", "/sightings"},
+            {"POST", "/sightings/batch"},
+            {"GET", "/sightings/heatmap/12/1203/1987"},
+            {"GET", "/sightings/habitats/4/sightings"},
+            {"GET", "/birds/suggest"},
+            {"GET", "/birds/42/summary"},
+            {"DELETE", "/habitats/4"},
+            {"GET", "/actuator/metrics/jvm.memory.used"},
+            {"PATCH", "/users/5/disable"},
+            {"PUT", "/roles/1/permissions"},
+            {"GET", "/desconocido/ruta"}
+    };
+
+    private AuthorizationManager<RequestAuthorizationContext> table;
+    private AuthorizationManager<RequestAuthorizationContext> legacy;
+    private Authentication authentication;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        table = new SecurityConfig().routeAuthorizationTable();
+        legacy = LegacyRouteAuthorization.chain();
+        authentication = new TestingAuthenticationToken("ana", "",
+                AuthorityUtils.createAuthorityList("ROLE_ADMIN", "READ"));
+    }
+
+    @Benchmark
+    public Object routeTable() {
+        return table.check(() -> authentication, nextRequest());
+    }
+
+    @Benchmark
+    public Object requestMatchersChain() {
+        return legacy.check(() -> authentication, nextRequest());
+    }
+
+    private RequestAuthorizationContext nextRequest() {
+        next = (next + 1) % REQUESTS.length;
+        return new RequestAuthorizationContext(new MockHttpServletRequest(REQUESTS[next][0], REQUESTS[next][1]));
+    }
+}
@@ -0,0 +1,171 @@
+package edu.education.birdmanagementapi.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que {@link RouteAuthorizationTable}, con las reglas de {@link SecurityConfig}, decida igual que la cadena
+ * de {@code requestMatchers} a la que sustituyó ({@link LegacyRouteAuthorization}) para cada regla, los comodines y
+ * la denegación por defecto, con distintos tipos de usuario.
+ */
+class RouteAuthorizationTableTest {
+
+    private static final Map<String, Authentication> PRINCIPALS = new LinkedHashMap<>();
+
+    static {
+        PRINCIPALS.put("anónimo", new AnonymousAuthenticationToken("clave", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        PRINCIPALS.put("admin", authenticated("ROLE_ADMIN", "CREATE", "READ", "UPDATE", "DELETE"));
+        PRINCIPALS.put("developer", authenticated("ROLE_DEVELOPER", "READ"));
+        PRINCIPALS.put("user", authenticated("ROLE_USER", "READ"));
+        PRINCIPALS.put("invited", authenticated("ROLE_INVITED", "INVITED"));
+        PRINCIPALS.put("sin permisos", authenticated());
+    }
+
+    private final AuthorizationManager<RequestAuthorizationContext> table = new SecurityConfig().routeAuthorizationTable();
+    private final AuthorizationManager<RequestAuthorizationContext> legacy = LegacyRouteAuthorization.chain();
+
+    /**
+     * Columnas: método, ruta y usuarios a los que se permite la petición.
+     */
+    @ParameterizedTest(name = "{0} {1}")
+    @CsvSource(delimiter = '|', textBlock = """
+            # Endpoints públicos
+            GET    | /method/test                         | anónimo admin developer user invited sin permisos
+            GET    | /swagger-ui/index.html               | anónimo admin developer user invited sin permisos
+            POST   | /swagger-ui/a/b/c                    | anónimo admin developer user invited sin permisos
+            GET    | /swagger-ui                          | anónimo admin developer user invited sin permisos
+            POST   | /users/create                        | anónimo admin developer user invited sin permisos
+            POST   | /auth/login                          | anónimo admin developer user invited sin permisos
+            POST   | /auth/register                       | anónimo admin developer user invited sin permisos
+            GET    | /actuator/health                     | anónimo admin developer user invited sin permisos
+            # Permisos y autenticación
+            GET    | /sightings                           | admin developer user invited
+            GET    | /method/test-secured                 | admin developer user
+            POST   | /auth/logout                         | admin developer user invited sin permisos
+            # Sightings
+            POST   | /sightings                           | admin developer
+            POST   | /sightings/batch                     | admin developer
+            POST   | /sightings/async                     | admin developer
+            GET    | /sightings/async/3f2a                | admin developer
+            PUT    | /sightings/7                         | admin developer
+            PUT    | /sightings/within                    | admin developer
+            GET    | /sightings/within                    | admin developer user invited
+            GET    | /sightings/nearest                   | admin developer user invited
+            GET    | /sightings/export                    | admin developer user invited
+            GET    | /sightings/stats/daily               | admin developer user invited
+            GET    | /sightings/heatmap/3/4/5             | admin developer user invited
+            GET    | /sightings/7                         | admin developer user invited
+            GET    | /sightings/birds/1/sightings         | admin developer user invited
+            GET    | /sightings/users/1/sightings         | admin developer user invited
+            GET    | /sightings/countries/1/sightings     | admin developer user invited
+            GET    | /sightings/habitats/1/sightings      | admin developer user invited
+            GET    | /sightings/date-range                | admin developer user invited
+            DELETE | /sightings/7                         | admin developer
+            DELETE | /sightings/nearest                   | admin developer
+            # Families
+            POST   | /families                            | admin developer
+            PUT    | /families/2                          | admin developer
+            GET    | /families                            | admin developer user invited
+            GET    | /families/2                          | admin developer user invited
+            GET    | /families/by-name                    | admin developer user invited
+            DELETE | /families/2                          | admin developer
+            # Birds
+            POST   | /birds                               | admin developer
+            POST   | /birds/batch                         | admin developer
+            PUT    | /birds/3                             | admin developer
+            PUT    | /birds/batch                         | admin developer
+            GET    | /birds                               | admin developer user invited
+            GET    | /birds/suggest                       | admin developer user invited
+            GET    | /birds/3/summary                     | admin developer user invited
+            GET    | /birds/3                             | admin developer user invited
+            GET    | /birds/by-name                       | admin developer user invited
+            DELETE | /birds/3                             | admin developer
+            # Habitats
+            POST   | /habitats                            | admin developer
+            PUT    | /habitats/4                          | admin developer
+            GET    | /habitats                            | admin developer user invited
+            GET    | /habitats/4                          | admin developer user invited
+            GET    | /habitats/by-name                    | admin developer user invited
+            DELETE | /habitats/4                          | admin developer
+            # Comodines
+            GET    | /actuator/metrics                    | admin developer
+            GET    | /actuator/metrics/jvm.memory.used    | admin developer
+            GET    | /users                               | admin developer
+            PATCH  | /users/5/disable                     | admin developer
+            DELETE | /users/5                             | admin developer
+            GET    | /users/create                        | admin developer
+            PUT    | /roles/1/permissions                 | admin
+            # Denegación por defecto
+            GET    | /                                    |
+            GET    | /desconocido                         |
+            GET    | /auth/login                          |
+            DELETE | /birds                               |
+            PATCH  | /birds/3                             |
+            GET    | /birds/3/desconocido                 |
+            GET    | /birds/                              |
+            GET    | /sightings/heatmap/3/4               |
+            POST   | /actuator/metrics                    |
+            GET    | /actuator/env                        |
+            GET    | /roles/1/permissions                 |
+            """)
+    void matchesTheRequestMatchersChain(String method, String path, String allowed) {
+        for (Map.Entry<String, Authentication> principal : PRINCIPALS.entrySet()) {
+            RequestAuthorizationContext context = new RequestAuthorizationContext(
+                    new MockHttpServletRequest(method, path));
+            boolean expected = allowed != null && (" " + allowed + " ").contains(" " + principal.getKey() + " ");
+
+            assertThat(decide(legacy, principal.getValue(), context))
+                    .as("cadena anterior, %s", principal.getKey()).isEqualTo(expected);
+            assertThat(decide(table, principal.getValue(), context))
+                    .as("tabla, %s", principal.getKey()).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void resolvesRequestsUnderTheContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/birds/3");
+        request.setContextPath("/api");
+
+        assertThat(decide(table, PRINCIPALS.get("user"), new RequestAuthorizationContext(request))).isTrue();
+    }
+
+    @Test
+    void rejectsDuplicateOrMalformedRules() {
+        RouteAuthorizationTable routes = new RouteAuthorizationTable()
+                .route(HttpMethod.GET, RouteAuthorizationTable.permitAll(), "/birds/{id}");
+
+        assertThatThrownBy(() -> routes.route(HttpMethod.GET, RouteAuthorizationTable.permitAll(), "/birds/{idBird}"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> routes.route(null, RouteAuthorizationTable.permitAll(), "/birds/**/summary"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> routes.route(null, RouteAuthorizationTable.permitAll(), "/birds/*.json"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static boolean decide(AuthorizationManager<RequestAuthorizationContext> manager,
+                                  Authentication authentication, RequestAuthorizationContext context) {
+        AuthorizationDecision decision = manager.check(() -> authentication, context);
+        return decision != null && decision.isGranted();
+    }
+
+    private static Authentication authenticated(String... authorities) {
+        return new TestingAuthenticationToken("ana", "", AuthorityUtils.createAuthorityList(authorities));
+    }
+}
@@ -0,0 +1,109 @@
+package edu.education.birdmanagementapi.config.filter;
+
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import edu.education.birdmanagementapi.service.index.TokenRevocationList;
+import edu.education.birdmanagementapi.service.index.UserAuthorityCache;
+import edu.education.birdmanagementapi.util.JwtUtils;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifica que {@link JwtTokenValidator} solo recurre a las autorizaciones del propio token con los tokens sin
+ * versión de seguridad: un token versionado cuyo usuario no se puede cargar deja la petición sin autenticar.
+ */
+class JwtTokenValidatorTest {
+
+    private static final String TOKEN = "token";
+
+    private JwtUtils jwtUtils;
+    private UserDetailsService userDetailsService;
+    private UserAuthorityCache userAuthorityCache;
+    private JwtTokenValidator validator;
+    private FilterChain filterChain;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = mock(JwtUtils.class);
+        userDetailsService = mock(UserDetailsService.class);
+        userAuthorityCache = mock(UserAuthorityCache.class);
+        TokenRevocationList tokenRevocationList = mock(TokenRevocationList.class);
+        validator = new JwtTokenValidator(jwtUtils, userDetailsService, userAuthorityCache, tokenRevocationList);
+        filterChain = mock(FilterChain.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void versionedTokenStaysUnauthenticatedWhenTheUserCannotBeLoaded() throws Exception {
+        token(3L);
+        when(userAuthorityCache.get("ana", 3L)).thenThrow(new UsernameNotFoundException("eliminado"));
+
+        validator.doFilter(request(), new MockHttpServletResponse(), filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(filterChain).doFilter(any(), any());
+    }
+
+    @Test
+    void versionedTokenStaysUnauthenticatedWhenTheDatabaseIsDown() throws Exception {
+        token(3L);
+        when(userAuthorityCache.get("ana", 3L)).thenThrow(new DataAccessResourceFailureException("caída"));
+
+        validator.doFilter(request(), new MockHttpServletResponse(), filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void unversionedTokenFallsBackToItsOwnAuthorities() throws Exception {
+        token(null);
+        when(userDetailsService.loadUserByUsername("ana")).thenThrow(new DataAccessResourceFailureException("caída"));
+
+        validator.doFilter(request(), new MockHttpServletResponse(), filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getName()).isEqualTo("ana");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_ADMIN", "READ");
+    }
+
+    private void token(Long securityVersion) {
+        DecodedJWT decodedJWT = mock(DecodedJWT.class);
+        Claim authorities = mock(Claim.class);
+        when(authorities.asString()).thenReturn("ROLE_ADMIN,READ");
+        Claim version = mock(Claim.class);
+        when(version.asLong()).thenReturn(securityVersion);
+        when(jwtUtils.validateToken(TOKEN)).thenReturn(decodedJWT);
+        when(jwtUtils.extractUsername(decodedJWT)).thenReturn("ana");
+        when(jwtUtils.getSpecificClaim(decodedJWT, "authorities")).thenReturn(authorities);
+        when(jwtUtils.getSpecificClaim(decodedJWT, JwtUtils.SECURITY_VERSION_CLAIM)).thenReturn(version);
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/birds");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + TOKEN);
+        return request;
+    }
+}
@@ -0,0 +1,137 @@
+package edu.education.birdmanagementapi.repository;
+
+import edu.education.birdmanagementapi.domain.dto.response.SightingResponseDTO;
+import edu.education.birdmanagementapi.domain.entity.*;
+import edu.education.birdmanagementapi.util.GeoHashUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que los listados de avistamientos se resuelvan con una única sentencia SQL (sin N+1).
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files="
+})
+class SightingRepositoryTest {
+
+    private static final int SIGHTINGS = 5;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SightingRepository sightingRepository;
+
+    private Statistics statistics;
+    private Bird bird;
+    private Country country;
+    private Habitat habitat;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < SIGHTINGS; i++) {
+            country = entityManager.persist(Country.builder().name("País " + i).isoCode("P" + i).build());
+            habitat = entityManager.persist(Habitat.builder().name("Hábitat " + i).build());
+            user = entityManager.persist(User.builder().name("Usuario " + i).username("user" + i)
+                    .email("user" + i + "@example.com").password("1234").build());
+            bird = entityManager.persist(Bird.builder().commonName("Ave " + i).scientificName("Avis " + i)
+                    .conservationModel("LC").build());
+            entityManager.persist(Sighting.builder()
+                    .latitude(4.6)
+                    .longitude(-74.1)
+                    .geohash(GeoHashUtils.encode(4.6, -74.1))
+                    .sightingDateTime(LocalDateTime.of(2025, 10, 1, 8, 0).plusHours(i))
+                    .country(country)
+                    .bird(bird)
+                    .habitat(habitat)
+                    .user(user)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findPageAfterRunsSingleStatement() {
+        List<SightingResponseDTO> page = sightingRepository.findPageAfter(0L, Limit.of(SIGHTINGS + 1));
+
+        assertThat(page).hasSize(SIGHTINGS);
+        assertThat(page).allSatisfy(dto -> {
+            assertThat(dto.countryName()).isNotNull();
+            assertThat(dto.birdName()).isNotNull();
+            assertThat(dto.habitatName()).isNotNull();
+            assertThat(dto.userName()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void filteredListingsRunSingleStatement() {
+        sightingRepository.findPageByBirdAfter(bird.getIdBird(), 0L, Limit.of(10));
+        sightingRepository.findPageByUserAfter(user.getIdUser(), 0L, Limit.of(10));
+        sightingRepository.findPageByCountryAfter(country.getIdCountry(), 0L, Limit.of(10));
+        sightingRepository.findPageByHabitatAfter(habitat.getIdHabitat(), 0L, Limit.of(10));
+        List<SightingResponseDTO> range = sightingRepository.findPageByDateRangeAfter(
+                LocalDateTime.of(2025, 10, 1, 0, 0), Long.MIN_VALUE, LocalDateTime.of(2025, 10, 2, 0, 0),
+                Limit.of(10));
+
+        assertThat(range).hasSize(SIGHTINGS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    void keysetPagesDoNotOverlap() {
+        List<SightingResponseDTO> first = sightingRepository.findPageAfter(0L, Limit.of(2));
+        List<SightingResponseDTO> second = sightingRepository.findPageAfter(first.get(1).idSighting(), Limit.of(2));
+
+        assertThat(second).hasSize(2);
+        assertThat(second.get(0).idSighting()).isGreaterThan(first.get(1).idSighting());
+    }
+
+    @Test
+    void exportStreamAppliesOptionalFilters() {
+        try (Stream<SightingResponseDTO> all = sightingRepository.streamForExport(null, null, null, null, null)) {
+            assertThat(all).hasSize(SIGHTINGS);
+        }
+        try (Stream<SightingResponseDTO> filtered = sightingRepository.streamForExport(bird.getIdBird(), null, null,
+                LocalDateTime.of(2025, 10, 1, 0, 0), null)) {
+            assertThat(filtered).extracting(SightingResponseDTO::birdName).containsExactly(bird.getCommonName());
+        }
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void boundingBoxPagesByKeyset() {
+        List<GeoHashUtils.GeoHashRange> ranges = GeoHashUtils.coveringRanges(4.5, -74.2, 4.7, -74.0);
+
+        List<SightingResponseDTO> first = sightingRepository.findWithinBoundingBox(4.5, -74.2, 4.7, -74.0, ranges,
+                0L, 3);
+        List<SightingResponseDTO> rest = sightingRepository.findWithinBoundingBox(4.5, -74.2, 4.7, -74.0, ranges,
+                first.get(2).idSighting(), 10);
+
+        assertThat(first).hasSize(3);
+        assertThat(rest).hasSize(SIGHTINGS - 3);
+        assertThat(rest.get(0).idSighting()).isGreaterThan(first.get(2).idSighting());
+    }
+}
@@ -0,0 +1,183 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.projection.BirdNameProjection;
+import edu.education.birdmanagementapi.util.TextNormalizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la búsqueda por nombre de {@link BirdNameIndex} con las alternativas sin índice.
+ * <ul>
+ *     <li>{@code substringSearch} frente a {@code substringSearchContainsScan}: la implementación anterior de
+ *     {@code searchByName}, que cargaba todas las aves con {@code findAll} y filtraba con
+ *     {@code toLowerCase().contains} sobre ambos nombres. El recorrido se mide sobre los nombres ya cargados en
+ *     memoria, sin la consulta ni la hidratación de entidades, así que es una cota inferior de su coste real.</li>
+ *     <li>{@code fuzzySearchBkTree} frente a {@code fuzzySearchLinearScan}: la versión anterior no tenía búsqueda
+ *     tolerante, así que la referencia es el recorrido sin índice que calcula la distancia de Levenshtein contra
+ *     cada nombre y palabra.</li>
+ * </ul>
+ * <p>
+ * Se ejecuta con:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main BirdNameIndexBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BirdNameIndexBenchmark {
+
+    private static final String[] SYLLABLES = {"tur", "dus", "fus", "ca", "ter", "gar", "za", "col", "i", "bri",
+            "ar", "de", "al", "ba", "pi", "cus", "me", "ru", "la", "to", "na", "ti", "ne", "mo"};
+    private static final int QUERIES = 64;
+
+    @Param({"10000", "100000"})
+    private int birds;
+
+    private BirdNameIndex index;
+    private List<String[]> terms;
+    private List<String[]> names;
+    private String[] substrings;
+    private String[] queries;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(13);
+        index = new BirdNameIndex(null);
+        terms = new ArrayList<>(birds);
+        names = new ArrayList<>(birds);
+        for (long idBird = 1; idBird <= birds; idBird++) {
+            String commonName = capitalize(word(random)) + " " + word(random);
+            String scientificName = capitalize(word(random)) + " " + word(random);
+            index.upsert(new BirdNameProjection(idBird, commonName, scientificName));
+            terms.add(fuzzyTerms(commonName, scientificName));
+            names.add(new String[]{commonName, scientificName});
+        }
+        substrings = new String[QUERIES];
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String[] bird = names.get(random.nextInt(names.size()));
+            substrings[i] = fragment(bird[random.nextInt(2)], random);
+            queries[i] = misspell(bird[1], random);
+        }
+    }
+
+    @Benchmark
+    public void substringSearch(Blackhole blackhole) {
+        blackhole.consume(index.search(nextSubstring()));
+    }
+
+    @Benchmark
+    public void substringSearchContainsScan(Blackhole blackhole) {
+        String query = nextSubstring();
+        List<Long> found = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            String[] bird = names.get(i);
+            if (bird[0].toLowerCase().contains(query.toLowerCase())
+                    || bird[1].toLowerCase().contains(query.toLowerCase())) {
+                found.add(i + 1L);
+            }
+        }
+        blackhole.consume(found);
+    }
+
+    @Benchmark
+    public void fuzzySearchBkTree(Blackhole blackhole) {
+        blackhole.consume(index.searchFuzzy(nextQuery(), 2));
+    }
+
+    @Benchmark
+    public void fuzzySearchLinearScan(Blackhole blackhole) {
+        String query = TextNormalizer.normalize(nextQuery());
+        List<Long> found = new ArrayList<>();
+        for (int i = 0; i < terms.size(); i++) {
+            for (String term : terms.get(i)) {
+                if (levenshtein(query, term) <= 2) {
+                    found.add(i + 1L);
+                    break;
+                }
+            }
+        }
+        blackhole.consume(found);
+    }
+
+    private String nextQuery() {
+        next = (next + 1) % QUERIES;
+        return queries[next];
+    }
+
+    private String nextSubstring() {
+        next = (next + 1) % QUERIES;
+        return substrings[next];
+    }
+
+    /**
+     * Fragmento de 4 a 7 caracteres del nombre, como lo escribiría alguien que recuerda parte de él.
+     */
+    private static String fragment(String name, Random random) {
+        int length = Math.min(name.length(), 4 + random.nextInt(4));
+        int start = random.nextInt(name.length() - length + 1);
+        return name.substring(start, start + length);
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    private static String[] fuzzyTerms(String commonName, String scientificName) {
+        List<String> terms = new ArrayList<>();
+        for (String name : List.of(commonName, scientificName)) {
+            String normalized = TextNormalizer.normalize(name);
+            terms.add(normalized);
+            for (String word : normalized.split(" ")) {
+                if (word.length() >= 4) {
+                    terms.add(word);
+                }
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static String misspell(String name, Random random) {
+        int position = random.nextInt(name.length());
+        return name.substring(0, position) + name.charAt(position) + name.substring(position);
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
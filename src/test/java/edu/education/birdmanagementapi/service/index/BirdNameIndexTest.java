@@ -0,0 +1,147 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.dto.response.BirdSuggestionResponseDTO;
+import edu.education.birdmanagementapi.domain.projection.BirdNameProjection;
+import edu.education.birdmanagementapi.repository.BirdRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifica el orden de relevancia, las consultas cortas y el plegado de tildes y grafías de {@link BirdNameIndex},
+ * sin contexto de Spring.
+ */
+class BirdNameIndexTest {
+
+    private static final long EXACT = 1L;
+    private static final long PREFIX = 2L;
+    private static final long WORD_PREFIX = 3L;
+    private static final long SUBSTRING = 4L;
+    private static final long PHONETIC = 5L;
+    private static final long HUMMINGBIRD = 6L;
+    private static final long WHITE_EGRET = 7L;
+
+    private BirdNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new BirdNameIndex(mock(BirdRepository.class));
+        index.upsert(new BirdNameProjection(EXACT, "Garza", "Ardea cocoi"));
+        index.upsert(new BirdNameProjection(PREFIX, "Garza Real", "Ardea herodias"));
+        index.upsert(new BirdNameProjection(WORD_PREFIX, "Gran Garza Morena", "Ardea goliath"));
+        index.upsert(new BirdNameProjection(SUBSTRING, "Pseudogarza Andina", "Nycticorax nycticorax"));
+        index.upsert(new BirdNameProjection(PHONETIC, "Garsa Parda", "Butorides striata"));
+        index.upsert(new BirdNameProjection(HUMMINGBIRD, "Colibrí Chillón", "Colibri coruscans"));
+        index.upsert(new BirdNameProjection(WHITE_EGRET, "Garza Blanca", "Ardea alba"));
+    }
+
+    @Test
+    void ranksExactThenPrefixThenWordPrefixThenSubstringThenPhonetic() {
+        assertThat(index.search("garza"))
+                .containsExactly(EXACT, PREFIX, WHITE_EGRET, WORD_PREFIX, SUBSTRING, PHONETIC);
+    }
+
+    @Test
+    void ranksScientificNamesByMatchedLength() {
+        assertThat(index.search("Ardea")).containsExactly(WHITE_EGRET, EXACT, WORD_PREFIX, PREFIX);
+    }
+
+    @Test
+    void matchesQueriesSpanningWords() {
+        assertThat(index.search("garza r")).containsExactly(PREFIX);
+        assertThat(index.search("real")).containsExactly(PREFIX);
+    }
+
+    @Test
+    void shortQueriesMatchAnySubstring() {
+        assertThat(index.search("gr")).containsExactly(WORD_PREFIX);
+        assertThat(index.search("z")).contains(EXACT, PREFIX, WORD_PREFIX, SUBSTRING, WHITE_EGRET)
+                .doesNotContain(PHONETIC, HUMMINGBIRD);
+        assertThat(index.search("qx")).isEmpty();
+    }
+
+    @Test
+    void blankQueriesReturnNothing() {
+        assertThat(index.search("")).isEmpty();
+        assertThat(index.search("   ")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+
+    @Test
+    void foldsDiacritics() {
+        assertThat(index.search("colibri")).containsExactly(HUMMINGBIRD);
+        assertThat(index.search("CHILLON")).containsExactly(HUMMINGBIRD);
+        assertThat(index.search("Colibrí")).containsExactly(HUMMINGBIRD);
+    }
+
+    @Test
+    void matchesSpellingsThatSoundAlike() {
+        assertThat(index.search("Garsa Blanka")).containsExactly(WHITE_EGRET);
+        assertThat(index.search("Kolibri")).containsExactly(HUMMINGBIRD);
+    }
+
+    @Test
+    void removedBirdsAreNoLongerFound() {
+        index.remove(EXACT);
+        index.upsert(new BirdNameProjection(PREFIX, "Garceta Real", "Ardea herodias"));
+
+        assertThat(index.search("garza")).containsExactly(WHITE_EGRET, WORD_PREFIX, SUBSTRING, PHONETIC);
+        assertThat(index.size()).isEqualTo(6);
+    }
+
+    @Test
+    void suggestsNameStartsBeforeWordStarts() {
+        assertThat(index.suggest("gar", 10)).extracting(BirdSuggestionResponseDTO::idBird)
+                .containsExactly(PHONETIC, EXACT, WHITE_EGRET, PREFIX, WORD_PREFIX);
+        assertThat(index.suggest("gar", 2)).extracting(BirdSuggestionResponseDTO::idBird)
+                .containsExactly(PHONETIC, EXACT);
+        assertThat(index.suggest("chillon", 10)).extracting(BirdSuggestionResponseDTO::commonName)
+                .containsExactly("Colibrí Chillón");
+    }
+
+    @Test
+    void suggestionsFollowUpsertsAndRemovals() {
+        index.remove(PHONETIC);
+        index.upsert(new BirdNameProjection(EXACT, "Garcita Estriada", "Butorides striata"));
+
+        assertThat(index.suggest("gar", 10)).extracting(BirdSuggestionResponseDTO::idBird)
+                .containsExactly(EXACT, WHITE_EGRET, PREFIX, WORD_PREFIX);
+        assertThat(index.suggest("stri", 10)).extracting(BirdSuggestionResponseDTO::idBird)
+                .containsExactly(EXACT);
+    }
+
+    @Test
+    void suggestToleratesConcurrentRemovals() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicBoolean running = new AtomicBoolean(true);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    long idBird = 100 + i % 50;
+                    index.upsert(new BirdNameProjection(idBird, "Garza " + i, "Ardea " + i));
+                    index.remove(idBird);
+                }
+                running.set(false);
+            });
+            Future<?> reader = executor.submit(() -> {
+                while (running.get()) {
+                    assertThat(index.suggest("garza", 20)).extracting(BirdSuggestionResponseDTO::commonName)
+                            .doesNotContainNull();
+                }
+            });
+            writer.get(30, TimeUnit.SECONDS);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(index.size()).isEqualTo(7);
+    }
+}
@@ -0,0 +1,164 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.domain.projection.BirdNameProjection;
+import edu.education.birdmanagementapi.repository.BirdRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compara las búsquedas del {@link BkTree} con un recorrido exhaustivo calculando la distancia de Levenshtein
+ * contra cada término, antes y después de las eliminaciones que fuerzan su reconstrucción.
+ */
+class BkTreeTest {
+
+    private static final String[] SYLLABLES = {"tur", "dus", "fus", "ca", "ter", "gar", "za", "col", "i", "bri",
+            "ar", "de", "al", "ba", "pi", "cus", "me", "ru", "la", "to"};
+
+    @Test
+    void searchMatchesBruteForceScan() {
+        Random random = new Random(42);
+        BkTree tree = new BkTree();
+        List<Map.Entry<String, Long>> terms = new ArrayList<>();
+        for (long idBird = 1; idBird <= 2_000; idBird++) {
+            String term = randomWord(random);
+            tree.add(term, idBird);
+            terms.add(Map.entry(term, idBird));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String query = randomWord(random);
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                assertThat(search(tree, query, maxDistance)).isEqualTo(bruteForce(terms, query, maxDistance));
+            }
+        }
+    }
+
+    @Test
+    void removedTermsAreNotReturnedAndReAddingRevivesTheNode() {
+        BkTree tree = new BkTree();
+        tree.add("turdus fuscater", 1L);
+        tree.add("turdus serranus", 2L);
+        tree.add("turdus fuscater", 3L);
+
+        tree.remove("turdus fuscater", 1L);
+        assertThat(search(tree, "turdus fuscatter", 1)).containsOnlyKeys(3L);
+        assertThat(tree.tombstones()).isZero();
+
+        tree.remove("turdus fuscater", 3L);
+        assertThat(search(tree, "turdus fuscatter", 1)).isEmpty();
+        assertThat(tree.tombstones()).isEqualTo(1);
+
+        tree.add("turdus fuscater", 4L);
+        assertThat(search(tree, "turdus fuscatter", 1)).containsOnlyKeys(4L);
+        assertThat(tree.tombstones()).isZero();
+        assertThat(tree.nodes()).isEqualTo(2);
+    }
+
+    @Test
+    void indexFindsMisspelledNames() {
+        BirdNameIndex index = new BirdNameIndex(mock(BirdRepository.class));
+        index.upsert(new BirdNameProjection(1L, "Mirla Patinaranja", "Turdus fuscater"));
+        index.upsert(new BirdNameProjection(2L, "Mirla Serrana", "Turdus serranus"));
+        index.upsert(new BirdNameProjection(3L, "Garza Blanca", "Ardea alba"));
+
+        assertThat(index.searchFuzzy("Turdus fuscatter", 1)).containsExactly(1L);
+        assertThat(index.searchFuzzy("Turdus fuscatter", 2)).containsExactly(1L);
+        assertThat(index.searchFuzzy("turdas", 1)).containsExactly(1L, 2L);
+        assertThat(index.searchFuzzy("Turdus fuscatter", 0)).isEmpty();
+    }
+
+    @Test
+    void indexResultsSurviveTombstoneRebuilds() {
+        Random random = new Random(7);
+        BirdNameIndex index = new BirdNameIndex(mock(BirdRepository.class));
+        Map<Long, BirdNameProjection> birds = new HashMap<>();
+        for (long idBird = 1; idBird <= 600; idBird++) {
+            BirdNameProjection bird = new BirdNameProjection(idBird, randomWord(random) + " " + randomWord(random),
+                    randomWord(random) + " " + randomWord(random));
+            birds.put(idBird, bird);
+            index.upsert(bird);
+        }
+        // Las lápidas superan la mitad de los nodos y fuerzan al menos una reconstrucción del árbol.
+        for (long idBird = 1; idBird <= 500; idBird++) {
+            index.remove(idBird);
+            birds.remove(idBird);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            String query = randomWord(random);
+            assertThat(index.searchFuzzy(query, 2)).containsExactlyInAnyOrderElementsOf(bruteForce(birds, query, 2));
+        }
+    }
+
+    private static Map<Long, Integer> search(BkTree tree, String query, int maxDistance) {
+        Map<Long, Integer> found = new HashMap<>();
+        tree.search(query, maxDistance, (idBird, distance) -> found.merge(idBird, distance, Math::min));
+        return found;
+    }
+
+    private static Map<Long, Integer> bruteForce(List<Map.Entry<String, Long>> terms, String query,
+                                                 int maxDistance) {
+        Map<Long, Integer> found = new HashMap<>();
+        for (Map.Entry<String, Long> term : terms) {
+            int distance = levenshtein(query, term.getKey());
+            if (distance <= maxDistance) {
+                found.merge(term.getValue(), distance, Math::min);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Aves con el nombre completo, o una palabra de al menos cuatro letras, a la distancia indicada.
+     */
+    private static List<Long> bruteForce(Map<Long, BirdNameProjection> birds, String query, int maxDistance) {
+        List<Long> found = new ArrayList<>();
+        birds.forEach((idBird, bird) -> {
+            for (String name : List.of(bird.commonName(), bird.scientificName())) {
+                boolean close = levenshtein(query, name) <= maxDistance;
+                for (String word : name.split(" ")) {
+                    close |= word.length() >= 4 && levenshtein(query, word) <= maxDistance;
+                }
+                if (close) {
+                    found.add(idBird);
+                    return;
+                }
+            }
+        });
+        return found;
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int i = 0; i < syllables; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            d[i][0] = i;
+        }
+        for (int j = 0; j <= b.length(); j++) {
+            d[0][j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = d[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                d[i][j] = Math.min(substitution, Math.min(d[i - 1][j], d[i][j - 1]) + 1);
+            }
+        }
+        return d[a.length()][b.length()];
+    }
+}
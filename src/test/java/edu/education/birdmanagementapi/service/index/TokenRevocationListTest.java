@@ -0,0 +1,183 @@
+package edu.education.birdmanagementapi.service.index;
+
+import edu.education.birdmanagementapi.repository.RevokedTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica que {@link TokenRevocationList} rechace los tokens revocados hasta su caducidad, descarte las cubetas
+ * vencidas, reconstruya la lista desde {@code revoked_tokens} y lea las revocaciones hechas en otras instancias.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.hbm2ddl.import_files=")
+class TokenRevocationListTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:30Z");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private MutableClock clock;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        revocationList = new TokenRevocationList(revokedTokenRepository, clock);
+    }
+
+    @Test
+    void revokedTokensAreRejected() {
+        String jti = UUID.randomUUID().toString();
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(30));
+
+        revocationList.revoke(jti, expiresAt);
+
+        assertThat(revocationList.isRevoked(jti, expiresAt)).isTrue();
+        assertThat(revocationList.isRevoked(UUID.randomUUID().toString(), expiresAt)).isFalse();
+        assertThat(revocationList.isRevoked(jti, null)).isFalse();
+        assertThat(revocationList.isRevoked(null, expiresAt)).isFalse();
+        assertThat(revokedTokenRepository.existsById(jti)).isTrue();
+    }
+
+    @Test
+    void alreadyExpiredTokensAreNotStored() {
+        String jti = UUID.randomUUID().toString();
+
+        revocationList.revoke(jti, NOW.minusSeconds(1));
+
+        assertThat(revocationList.size()).isZero();
+        assertThat(revokedTokenRepository.existsById(jti)).isFalse();
+    }
+
+    @Test
+    void staysRejectedAcrossTheMinuteBoundaryOfItsExpiry() {
+        String jti = UUID.randomUUID().toString();
+        Instant expiresAt = Instant.parse("2026-10-18T12:00:59Z");
+        revocationList.revoke(jti, expiresAt);
+
+        // Ya caducado, pero aún dentro del margen de tolerancia de la validación
+        clock.set(Instant.parse("2026-10-18T12:01:00.500Z"));
+        assertThat(revocationList.isRevoked(jti, expiresAt)).isTrue();
+
+        clock.set(Instant.parse("2026-10-18T12:01:59Z"));
+        assertThat(revocationList.isRevoked(jti, expiresAt)).isTrue();
+    }
+
+    @Test
+    void expiredBucketsArePurged() {
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        Instant firstExpiry = Instant.parse("2026-10-18T12:00:45Z");
+        Instant secondExpiry = Instant.parse("2026-10-18T12:05:10Z");
+        revocationList.revoke(first, firstExpiry);
+        revocationList.revoke(second, secondExpiry);
+        assertThat(revocationList.size()).isEqualTo(2);
+
+        clock.set(Instant.parse("2026-10-18T12:02:00Z"));
+        assertThat(revocationList.isRevoked(second, secondExpiry)).isTrue();
+        assertThat(revocationList.size()).isEqualTo(1);
+        assertThat(revocationList.isRevoked(first, firstExpiry)).isFalse();
+
+        clock.set(Instant.parse("2026-10-18T12:07:00Z"));
+        assertThat(revocationList.isRevoked(second, secondExpiry)).isFalse();
+        assertThat(revocationList.size()).isZero();
+    }
+
+    @Test
+    void revocationsSurviveAReloadFromTheRepository() {
+        String active = UUID.randomUUID().toString();
+        String expiring = UUID.randomUUID().toString();
+        Instant activeExpiry = NOW.plus(Duration.ofHours(1));
+        Instant expiringExpiry = NOW.plus(Duration.ofMinutes(2));
+        revocationList.revoke(active, activeExpiry);
+        revocationList.revoke(expiring, expiringExpiry);
+        entityManager.flush();
+        entityManager.clear();
+
+        clock.set(NOW.plus(Duration.ofMinutes(10)));
+        TokenRevocationList reloaded = new TokenRevocationList(revokedTokenRepository, clock);
+        reloaded.load();
+
+        assertThat(reloaded.isRevoked(active, activeExpiry)).isTrue();
+        assertThat(reloaded.size()).isEqualTo(1);
+        assertThat(revokedTokenRepository.existsById(expiring)).isFalse();
+    }
+
+    @Test
+    void revocationsFromAnotherInstanceArePickedUpByPolling() {
+        TokenRevocationList otherInstance = new TokenRevocationList(revokedTokenRepository, clock);
+        String jti = UUID.randomUUID().toString();
+        Instant expiresAt = NOW.plus(Duration.ofMinutes(30));
+        clock.set(NOW.plusSeconds(5));
+        otherInstance.revoke(jti, expiresAt);
+        entityManager.flush();
+
+        assertThat(revocationList.isRevoked(jti, expiresAt)).isFalse();
+        revocationList.poll();
+        assertThat(revocationList.isRevoked(jti, expiresAt)).isTrue();
+    }
+
+    @Test
+    void pollingOnlyReadsRecentRevocations() {
+        TokenRevocationList otherInstance = new TokenRevocationList(revokedTokenRepository, clock);
+        String old = UUID.randomUUID().toString();
+        String recent = UUID.randomUUID().toString();
+        Instant expiresAt = NOW.plus(Duration.ofHours(1));
+        otherInstance.revoke(old, expiresAt);
+        clock.set(NOW.plus(Duration.ofMinutes(10)));
+        otherInstance.revoke(recent, expiresAt);
+        entityManager.flush();
+
+        TokenRevocationList lateInstance = new TokenRevocationList(revokedTokenRepository, clock);
+        lateInstance.poll();
+
+        assertThat(lateInstance.isRevoked(recent, expiresAt)).isTrue();
+        assertThat(lateInstance.isRevoked(old, expiresAt)).isFalse();
+    }
+
+    /**
+     * Reloj fijo que el test puede adelantar.
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package edu.education.birdmanagementapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Verifica que {@link BloomFilter} no dé falsos negativos y que su tasa de falsos positivos medida se acerque a la
+ * esperada.
+ */
+class BloomFilterTest {
+
+    private static final int KEYS = 100_000;
+    private static final int PROBES = 200_000;
+
+    @Test
+    void containsEveryInsertedKey() {
+        BloomFilter filter = new BloomFilter(KEYS, 0.01);
+        for (int i = 0; i < KEYS; i++) {
+            filter.put("garza blanca " + i);
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain("garza blanca " + i)).as("clave %d", i).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(KEYS);
+    }
+
+    @Test
+    void measuredFalsePositiveRateMatchesExpected() {
+        for (double target : new double[]{0.01, 0.05}) {
+            BloomFilter filter = new BloomFilter(KEYS, target);
+            for (int i = 0; i < KEYS; i++) {
+                filter.put("ave-" + i);
+            }
+
+            assertThat(filter.expectedFalsePositiveRate()).isCloseTo(target, within(target * 0.1));
+            assertThat(measuredFalsePositiveRate(filter))
+                    .isCloseTo(filter.expectedFalsePositiveRate(), within(filter.expectedFalsePositiveRate() * 0.2));
+        }
+    }
+
+    @Test
+    void falsePositiveRateGrowsWithInsertions() {
+        BloomFilter filter = new BloomFilter(KEYS, 0.01);
+        for (int i = 0; i < KEYS / 2; i++) {
+            filter.put("ave-" + i);
+        }
+        double halfFull = measuredFalsePositiveRate(filter);
+        for (int i = KEYS / 2; i < KEYS * 2; i++) {
+            filter.put("ave-" + i);
+        }
+
+        assertThat(halfFull).isLessThan(0.01);
+        assertThat(measuredFalsePositiveRate(filter))
+                .isGreaterThan(0.01)
+                .isCloseTo(filter.expectedFalsePositiveRate(), within(filter.expectedFalsePositiveRate() * 0.2));
+    }
+
+    @Test
+    void concurrentInsertionsAreNotLost() throws Exception {
+        BloomFilter filter = new BloomFilter(KEYS, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < KEYS; i += 4) {
+                        filter.put("ave-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int i = 0; i < KEYS; i++) {
+            assertThat(filter.mightContain("ave-" + i)).as("clave %d", i).isTrue();
+        }
+        assertThat(filter.insertions()).isEqualTo(KEYS);
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThatThrownBy(() -> new BloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(KEYS, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(KEYS, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Proporción de claves nunca insertadas para las que el filtro responde que podrían estar.
+     */
+    private static double measuredFalsePositiveRate(BloomFilter filter) {
+        int falsePositives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain("ausente-" + i)) {
+                falsePositives++;
+            }
+        }
+        return (double) falsePositives / PROBES;
+    }
+}
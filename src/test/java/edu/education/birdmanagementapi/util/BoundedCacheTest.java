@@ -0,0 +1,177 @@
+package edu.education.birdmanagementapi.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica que {@link BoundedCache} coalesce las cargas concurrentes de una clave y que las invalidaciones solo
+ * descarten las cargas en curso de las claves afectadas.
+ */
+class BoundedCacheTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesOfTheSameKeyLoadOnce() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Future<String> first = executor.submit(() -> cache.get("garza", blockingLoader(loads, loading, release)));
+        loading.await(5, TimeUnit.SECONDS);
+        Future<String> second = executor.submit(() -> cache.get("garza", () -> {
+            loads.incrementAndGet();
+            return "otra";
+        }));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getIfPresent("garza")).isEqualTo("valor");
+    }
+
+    @Test
+    void aLoadingKeyDoesNotBlockOtherKeys() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = executor.submit(() -> cache.get("garza", blockingLoader(new AtomicInteger(),
+                loading, release)));
+        loading.await(5, TimeUnit.SECONDS);
+
+        assertThat(cache.get("colibri", () -> "rapido")).isEqualTo("rapido");
+        assertThat(cache.getIfPresent("garza")).isNull();
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+    }
+
+    @Test
+    void invalidatingAKeyDiscardsItsLoadInProgress() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> load = executor.submit(() -> cache.get("garza", blockingLoader(new AtomicInteger(),
+                loading, release)));
+        loading.await(5, TimeUnit.SECONDS);
+
+        cache.invalidate("garza");
+        release.countDown();
+
+        assertThat(load.get(5, TimeUnit.SECONDS)).isEqualTo("valor");
+        assertThat(cache.getIfPresent("garza")).isNull();
+    }
+
+    @Test
+    void invalidateIfOnlyDiscardsMatchingLoadsInProgress() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, null);
+        CountDownLatch loading = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> matching = executor.submit(() -> cache.get("garza",
+                () -> await(loading, release, "familia-1")));
+        Future<String> other = executor.submit(() -> cache.get("colibri",
+                () -> await(loading, release, "familia-2")));
+        loading.await(5, TimeUnit.SECONDS);
+
+        cache.invalidateIf((key, value) -> value.equals("familia-1"));
+        release.countDown();
+        matching.get(5, TimeUnit.SECONDS);
+        other.get(5, TimeUnit.SECONDS);
+
+        assertThat(cache.getIfPresent("garza")).isNull();
+        assertThat(cache.getIfPresent("colibri")).isEqualTo("familia-2");
+    }
+
+    @Test
+    void loaderFailuresReachEveryWaiterAndAreNotCached() throws Exception {
+        BoundedCache<String, String> cache = new BoundedCache<>(10, null);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> failing = executor.submit(() -> cache.get("garza", () -> {
+            await(loading, release, null);
+            throw new IllegalStateException("sin conexión");
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        Future<String> waiting = executor.submit(() -> cache.get("garza", () -> "otra"));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.get("garza", () -> "nueva")).isEqualTo("nueva");
+    }
+
+    @Test
+    void getAllLoadsOnlyMissingKeysInOneCall() {
+        BoundedCache<Long, String> cache = new BoundedCache<>(10, null);
+        cache.put(1L, "uno");
+        AtomicInteger calls = new AtomicInteger();
+
+        Map<Long, String> values = cache.getAll(List.of(1L, 2L, 3L), missing -> {
+            calls.incrementAndGet();
+            assertThat(missing).containsExactlyInAnyOrder(2L, 3L);
+            return Map.of(2L, "dos");
+        });
+
+        assertThat(values).containsExactlyInAnyOrderEntriesOf(Map.of(1L, "uno", 2L, "dos"));
+        assertThat(calls).hasValue(1);
+        assertThat(cache.getIfPresent(2L)).isEqualTo("dos");
+        assertThat(cache.getIfPresent(3L)).isNull();
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntries() throws InterruptedException {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(10, null);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i);
+            Thread.sleep(1);
+        }
+        cache.getIfPresent(0);
+
+        cache.put(10, 10);
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        assertThat(cache.getIfPresent(0)).isEqualTo(0);
+        assertThat(cache.getIfPresent(10)).isEqualTo(10);
+        assertThat(cache.getIfPresent(1)).isNull();
+    }
+
+    private static Supplier<String> blockingLoader(AtomicInteger loads, CountDownLatch loading,
+                                                   CountDownLatch release) {
+        return () -> {
+            loads.incrementAndGet();
+            return await(loading, release, "valor");
+        };
+    }
+
+    private static String await(CountDownLatch loading, CountDownLatch release, String value) {
+        loading.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
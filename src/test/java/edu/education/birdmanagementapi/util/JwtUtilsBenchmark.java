@@ -0,0 +1,123 @@
+package edu.education.birdmanagementapi.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import edu.education.birdmanagementapi.domain.security.SecurityUser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la emisión y validación de tokens con el llavero de {@link JwtUtils}, que construye cada
+ * {@link Algorithm} y verificador una sola vez, con la alternativa de construirlos en cada petición.
+ * {@code retiredKeys} indica cuántas claves retiradas acepta el llavero, y los tokens validados se reparten entre
+ * la clave actual y las retiradas.
+ * <p>
+ * Se ejecuta con:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath org.openjdk.jmh.Main JwtUtilsBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private static final String ISSUER = "bird-management-api";
+
+    @Param({"0", "2"})
+    private int retiredKeys;
+
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String[] secrets;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        secrets = new String[retiredKeys + 1];
+        StringBuilder retired = new StringBuilder();
+        for (int i = 0; i < secrets.length; i++) {
+            secrets[i] = "secreto-de-prueba-" + i;
+            if (i > 0) {
+                retired.append(retired.isEmpty() ? "" : ",").append("k").append(i).append(':').append(secrets[i]);
+            }
+        }
+        jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "privateKey", secrets[0]);
+        ReflectionTestUtils.setField(jwtUtils, "keyId", "k0");
+        ReflectionTestUtils.setField(jwtUtils, "retiredKeys", retired.toString());
+        ReflectionTestUtils.setField(jwtUtils, "acceptedKeys", secrets.length);
+        ReflectionTestUtils.setField(jwtUtils, "userGenerator", ISSUER);
+        jwtUtils.initKeyring();
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        authentication = new UsernamePasswordAuthenticationToken(
+                new SecurityUser(1L, 0, "ana", "", true, true, true, true, authorities), null, authorities);
+
+        tokens = new String[secrets.length];
+        for (int i = 0; i < secrets.length; i++) {
+            tokens[i] = JWT.create()
+                    .withIssuer(ISSUER)
+                    .withSubject("ana")
+                    .withClaim("authorities", "ROLE_ADMIN")
+                    .withExpiresAt(new Date(System.currentTimeMillis() + 3_600_000))
+                    .withKeyId("k" + i)
+                    .sign(Algorithm.HMAC256(secrets[i]));
+        }
+    }
+
+    @Benchmark
+    public Object validateWithKeyring() {
+        return jwtUtils.validateToken(nextToken());
+    }
+
+    @Benchmark
+    public Object validateBuildingVerifierPerCall() {
+        String token = nextToken();
+        String kid = JWT.decode(token).getKeyId();
+        String secret = secrets[Integer.parseInt(kid.substring(1))];
+        return JWT.require(Algorithm.HMAC256(secret))
+                .withIssuer(ISSUER)
+                .acceptLeeway(2)
+                .build()
+                .verify(token);
+    }
+
+    @Benchmark
+    public String createWithCachedAlgorithm() {
+        return jwtUtils.createToken(authentication);
+    }
+
+    @Benchmark
+    public String createBuildingAlgorithmPerCall() {
+        return JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject(authentication.getName())
+                .withClaim("authorities", "ROLE_ADMIN")
+                .withIssuedAt(new Date())
+                .withExpiresAt(new Date(System.currentTimeMillis() + 1_800_000))
+                .withJWTId(UUID.randomUUID().toString())
+                .withNotBefore(new Date())
+                .withKeyId("k0")
+                .withClaim(JwtUtils.SECURITY_VERSION_CLAIM, 0L)
+                .sign(Algorithm.HMAC256(secrets[0]));
+    }
+
+    private String nextToken() {
+        next = (next + 1) % tokens.length;
+        return tokens[next];
+    }
+}
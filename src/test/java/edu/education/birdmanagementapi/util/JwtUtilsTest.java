@@ -0,0 +1,127 @@
+package edu.education.birdmanagementapi.util;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import edu.education.birdmanagementapi.domain.security.SecurityUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifica la emisión de tokens y la rotación de claves del llavero de {@link JwtUtils}.
+ */
+class JwtUtilsTest {
+
+    private static final String ISSUER = "bird-management-api";
+    private static final String OLD_SECRET = "secreto-anterior";
+    private static final String CURRENT_SECRET = "secreto-actual";
+
+    @Test
+    void createdTokensCarryKeyIdAndSecurityVersion() {
+        JwtUtils jwtUtils = jwtUtils("k2", CURRENT_SECRET, "", 3);
+
+        DecodedJWT decoded = jwtUtils.validateToken(jwtUtils.createToken(authentication(7)));
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getKeyId()).isEqualTo("k2");
+        assertThat(decoded.getSubject()).isEqualTo("ana");
+        assertThat(decoded.getClaim(JwtUtils.SECURITY_VERSION_CLAIM).asLong()).isEqualTo(7);
+        assertThat(decoded.getClaim("authorities").asString()).isEqualTo("ROLE_ADMIN,READ");
+    }
+
+    @Test
+    void tokensSignedWithARetiredKeyStillValidate() {
+        JwtUtils beforeRotation = jwtUtils("k1", OLD_SECRET, "", 3);
+        JwtUtils afterRotation = jwtUtils("k2", CURRENT_SECRET, "k1:" + OLD_SECRET, 3);
+        String oldToken = beforeRotation.createToken(authentication(1));
+
+        DecodedJWT decoded = afterRotation.validateToken(oldToken);
+
+        assertThat(decoded).isNotNull();
+        assertThat(decoded.getKeyId()).isEqualTo("k1");
+        assertThat(afterRotation.validateToken(afterRotation.createToken(authentication(1))).getKeyId())
+                .isEqualTo("k2");
+    }
+
+    @Test
+    void tokensWithAnUnknownKeyIdAreRejected() {
+        JwtUtils beforeRotation = jwtUtils("k1", OLD_SECRET, "", 3);
+        JwtUtils afterRotation = jwtUtils("k2", CURRENT_SECRET, "k1:" + OLD_SECRET, 3);
+
+        assertThat(beforeRotation.validateToken(afterRotation.createToken(authentication(1)))).isNull();
+        assertThat(afterRotation.validateToken(token("k9", CURRENT_SECRET))).isNull();
+    }
+
+    @Test
+    void tokensWhoseSignatureDoesNotMatchTheirKeyIdAreRejected() {
+        JwtUtils jwtUtils = jwtUtils("k2", CURRENT_SECRET, "k1:" + OLD_SECRET, 3);
+
+        assertThat(jwtUtils.validateToken(token("k1", CURRENT_SECRET))).isNull();
+        assertThat(jwtUtils.validateToken(token("k2", OLD_SECRET))).isNull();
+        assertThat(jwtUtils.validateToken(token("k1", OLD_SECRET))).isNotNull();
+    }
+
+    @Test
+    void tokensWithoutKeyIdAreVerifiedWithTheCurrentKey() {
+        JwtUtils jwtUtils = jwtUtils("k2", CURRENT_SECRET, "k1:" + OLD_SECRET, 3);
+
+        assertThat(jwtUtils.validateToken(token(null, CURRENT_SECRET))).isNotNull();
+        assertThat(jwtUtils.validateToken(token(null, OLD_SECRET))).isNull();
+    }
+
+    @Test
+    void retiredKeysBeyondTheAcceptedLimitAreDropped() {
+        JwtUtils jwtUtils = jwtUtils("k3", CURRENT_SECRET, "k2:" + OLD_SECRET + ", k1:secreto-antiguo", 2);
+
+        assertThat(jwtUtils.validateToken(token("k2", OLD_SECRET))).isNotNull();
+        assertThat(jwtUtils.validateToken(token("k1", "secreto-antiguo"))).isNull();
+    }
+
+    @Test
+    void rejectsMalformedKeyrings() {
+        assertThatThrownBy(() -> jwtUtils("k2", CURRENT_SECRET, "k1", 3))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> jwtUtils("k2", CURRENT_SECRET, "k2:" + OLD_SECRET, 3))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> jwtUtils("", CURRENT_SECRET, "", 3))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> jwtUtils("k2", CURRENT_SECRET, "", 0))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static JwtUtils jwtUtils(String keyId, String secret, String retiredKeys, int acceptedKeys) {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "privateKey", secret);
+        ReflectionTestUtils.setField(jwtUtils, "keyId", keyId);
+        ReflectionTestUtils.setField(jwtUtils, "retiredKeys", retiredKeys);
+        ReflectionTestUtils.setField(jwtUtils, "acceptedKeys", acceptedKeys);
+        ReflectionTestUtils.setField(jwtUtils, "userGenerator", ISSUER);
+        jwtUtils.initKeyring();
+        return jwtUtils;
+    }
+
+    private static Authentication authentication(long securityVersion) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_ADMIN"),
+                new SimpleGrantedAuthority("READ"));
+        SecurityUser user = new SecurityUser(1L, securityVersion, "ana", "", true, true, true, true, authorities);
+        return new UsernamePasswordAuthenticationToken(user, null, authorities);
+    }
+
+    private static String token(String keyId, String secret) {
+        return JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject("ana")
+                .withExpiresAt(new Date(System.currentTimeMillis() + 60_000))
+                .withKeyId(keyId)
+                .sign(Algorithm.HMAC256(secret));
+    }
+}